@@ -29,11 +29,16 @@
  */
 package tec.units.ri;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
 import javax.measure.UnitConverter;
 
+import tec.units.ri.function.AffineConverter;
+
 /**
  * <p>
  * The base class for our {@link UnitConverter} implementations.
@@ -60,6 +65,11 @@ public abstract class AbstractConverter implements UnitConverter {
    */
   public static final AbstractConverter IDENTITY = new Identity();
 
+  /**
+   * Holds the inverse of this converter once computed (see {@link #linkInverse(AbstractConverter)}).
+   */
+  private AbstractConverter inverse;
+
   /**
    * Default constructor.
    */
@@ -75,7 +85,7 @@ public abstract class AbstractConverter implements UnitConverter {
    * @return the concatenation of this converter with that converter.
    */
   public AbstractConverter concatenate(AbstractConverter that) {
-    return (that == IDENTITY) ? this : new Pair(this, that);
+    return (that == IDENTITY) ? this : (AbstractConverter) ConverterInterner.intern(normalize(this, that));
   }
 
   public boolean isIdentity() {
@@ -91,9 +101,76 @@ public abstract class AbstractConverter implements UnitConverter {
   @Override
   public abstract AbstractConverter inverse();
 
+  /**
+   * Returns the inverse of this converter previously cached by {@link #linkInverse(AbstractConverter)}.
+   *
+   * @return the cached inverse or <code>null</code> if not computed yet.
+   * @since 1.0.4
+   */
+  protected final AbstractConverter getCachedInverse() {
+    return inverse;
+  }
+
+  /**
+   * Caches the specified inverse of this converter and links it back to this converter, so that <code>inverse().inverse() == this</code>. The
+   * canonical instance of the inverse (see {@link ConverterInterner}) is used unless it is already linked to another converter. Immutable converters
+   * typically implement {@link #inverse()} as:[code] MultiplyConverter inverse = (MultiplyConverter) getCachedInverse(); return inverse != null ?
+   * inverse : linkInverse(new MultiplyConverter(1.0 / factor)); [/code] The cache is not synchronized; concurrent first calls may compute distinct
+   * (but equal) inverses, which is harmless.
+   *
+   * @param inverse
+   *          the inverse of this converter.
+   * @return the (possibly canonical) inverse.
+   * @since 1.0.4
+   */
+  protected final <C extends AbstractConverter> C linkInverse(C inverse) {
+    C canonical = ConverterInterner.intern(inverse);
+    if ((((AbstractConverter) canonical).inverse == null) || (((AbstractConverter) canonical).inverse == this))
+      inverse = canonical;
+    AbstractConverter that = inverse;
+    if ((that.inverse == null) && !that.isIdentity())
+      that.inverse = this;
+    this.inverse = that;
+    return inverse;
+  }
+
   @Override
   public UnitConverter concatenate(UnitConverter converter) {
-    return (converter == IDENTITY) ? this : new Pair(this, converter);
+    return (converter == IDENTITY) ? this : ConverterInterner.intern(normalize(this, converter));
+  }
+
+  /**
+   * Returns the concatenation of the specified converters in normalized form. Adjacent affine steps (rational, multiply, add or π converters) are
+   * folded into a single {@link AffineConverter}, including at the boundary between a {@link Pair} and another converter, so that only non-linear
+   * steps (e.g. logarithmic) remain chained.
+   *
+   * @param left
+   *          the converter applied last.
+   * @param right
+   *          the converter applied first.
+   * @return the normalized converter equivalent to <code>left(right(x))</code>.
+   */
+  static UnitConverter normalize(UnitConverter left, UnitConverter right) {
+    if (left == IDENTITY)
+      return right;
+    if (right == IDENTITY)
+      return left;
+    UnitConverter folded = AffineConverter.fold(left, right);
+    if (folded != null)
+      return folded;
+    if (left instanceof Pair) {
+      Pair pair = (Pair) left;
+      folded = AffineConverter.fold(pair.right, right);
+      if (folded != null)
+        return normalize(pair.left, folded);
+    }
+    if (right instanceof Pair) {
+      Pair pair = (Pair) right;
+      folded = AffineConverter.fold(left, pair.left);
+      if (folded != null)
+        return normalize(folded, pair.right);
+    }
+    return new Pair(left, right);
   }
 
   @Override
@@ -117,6 +194,159 @@ public abstract class AbstractConverter implements UnitConverter {
 
   public abstract double convert(double value);
 
+  /**
+   * Converts <code>len</code> values of the source array starting at <code>srcOff</code> and stores the results in the destination array starting at
+   * <code>dstOff</code>. Source and destination may be the same array, in which case the ranges must either coincide or not overlap.
+   *
+   * <p>
+   * The default implementation converts value by value; concrete converters override this method with a loop the compiler can unroll and vectorize.
+   * </p>
+   *
+   * @param src
+   *          the values to convert.
+   * @param srcOff
+   *          the index of the first value to convert.
+   * @param dst
+   *          the array receiving the converted values.
+   * @param dstOff
+   *          the index where the first converted value is stored.
+   * @param len
+   *          the number of values to convert.
+   * @throws IndexOutOfBoundsException
+   *           if either range is out of the bounds of its array.
+   * @since 1.0.4
+   */
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = convert(src[srcOff + i]);
+    }
+  }
+
+  /**
+   * Converts <code>len</code> values of the source array starting at <code>srcOff</code> and stores the results in the destination array starting at
+   * <code>dstOff</code>. Conversions are performed in <code>double</code> precision. Source and destination may be the same array, in which case the
+   * ranges must either coincide or not overlap.
+   *
+   * @param src
+   *          the values to convert.
+   * @param srcOff
+   *          the index of the first value to convert.
+   * @param dst
+   *          the array receiving the converted values.
+   * @param dstOff
+   *          the index where the first converted value is stored.
+   * @param len
+   *          the number of values to convert.
+   * @throws IndexOutOfBoundsException
+   *           if either range is out of the bounds of its array.
+   * @since 1.0.4
+   */
+  public void convert(float[] src, int srcOff, float[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = (float) convert((double) src[srcOff + i]);
+    }
+  }
+
+  /**
+   * Converts all the specified values in place.
+   *
+   * @param values
+   *          the values to convert.
+   * @since 1.0.4
+   */
+  public final void convert(double[] values) {
+    convert(values, 0, values, 0, values.length);
+  }
+
+  /**
+   * Converts all the specified values in place.
+   *
+   * @param values
+   *          the values to convert.
+   * @since 1.0.4
+   */
+  public final void convert(float[] values) {
+    convert(values, 0, values, 0, values.length);
+  }
+
+  /**
+   * Converts the remaining values of the source buffer and stores the results into the destination buffer, starting at their current positions. The
+   * position of both buffers is advanced by the number of values converted (as for {@link DoubleBuffer#put(DoubleBuffer)}). Source and destination
+   * may be the same buffer, in which case values are converted in place.
+   *
+   * <p>
+   * Buffers backed by accessible arrays are converted with {@link #convert(double[], int, double[], int, int)}; other buffers (direct, read-only or
+   * views of a {@link ByteBuffer}) are read and written with absolute operations, without copying.
+   * </p>
+   *
+   * @param src
+   *          the values to convert.
+   * @param dst
+   *          the buffer receiving the converted values.
+   * @throws BufferOverflowException
+   *           if there is insufficient space in the destination buffer.
+   * @throws java.nio.ReadOnlyBufferException
+   *           if the destination buffer is read-only.
+   * @since 1.0.4
+   */
+  public void convert(DoubleBuffer src, DoubleBuffer dst) {
+    final int len = src.remaining();
+    if (dst.remaining() < len)
+      throw new BufferOverflowException();
+    final int srcPos = src.position();
+    final int dstPos = dst.position();
+    if (src.hasArray() && dst.hasArray()) {
+      convert(src.array(), src.arrayOffset() + srcPos, dst.array(), dst.arrayOffset() + dstPos, len);
+    } else {
+      for (int i = 0; i < len; i++) {
+        dst.put(dstPos + i, convert(src.get(srcPos + i)));
+      }
+    }
+    src.position(srcPos + len);
+    dst.position(dstPos + len);
+  }
+
+  /**
+   * Converts the <code>double</code> values held in the remaining bytes of the source buffer and stores the results into the destination buffer,
+   * starting at their current positions. Values are read and written using the {@link ByteBuffer#order() byte order} of each buffer, e.g.
+   * {@link java.nio.ByteOrder#LITTLE_ENDIAN}, directly in the buffers (heap, direct or {@link java.nio.MappedByteBuffer memory-mapped}). The position
+   * of both buffers is advanced by the number of bytes converted; trailing bytes not forming a whole <code>double</code> are not consumed. Source and
+   * destination may be the same buffer, in which case values are converted in place.
+   *
+   * @param src
+   *          the bytes holding the values to convert.
+   * @param dst
+   *          the buffer receiving the converted values.
+   * @throws BufferOverflowException
+   *           if there is insufficient space in the destination buffer.
+   * @throws java.nio.ReadOnlyBufferException
+   *           if the destination buffer is read-only.
+   * @since 1.0.4
+   */
+  public void convert(ByteBuffer src, ByteBuffer dst) {
+    final int len = src.remaining() >> 3;
+    if (dst.remaining() >> 3 < len)
+      throw new BufferOverflowException();
+    final int srcPos = src.position();
+    final int dstPos = dst.position();
+    convert(src.asDoubleBuffer(), dst.asDoubleBuffer());
+    src.position(srcPos + (len << 3));
+    dst.position(dstPos + (len << 3));
+  }
+
+  /**
+   * Checks the source and destination ranges of a bulk conversion.
+   *
+   * @throws IndexOutOfBoundsException
+   *           if either range is out of the bounds of its array.
+   */
+  protected static void checkRange(int srcLength, int srcOff, int dstLength, int dstOff, int len) {
+    if ((len < 0) || (srcOff < 0) || (dstOff < 0) || (srcOff > srcLength - len) || (dstOff > dstLength - len))
+      throw new IndexOutOfBoundsException("Invalid range (srcOff=" + srcOff + ", dstOff=" + dstOff + ", len=" + len + ")");
+  }
+
   /**
    * This class represents the identity converter (singleton).
    */
@@ -137,6 +367,20 @@ public abstract class AbstractConverter implements UnitConverter {
       return value;
     }
 
+    @Override
+    public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+      checkRange(src.length, srcOff, dst.length, dstOff, len);
+      if ((src != dst) || (srcOff != dstOff))
+        System.arraycopy(src, srcOff, dst, dstOff, len);
+    }
+
+    @Override
+    public void convert(float[] src, int srcOff, float[] dst, int dstOff, int len) {
+      checkRange(src.length, srcOff, dst.length, dstOff, len);
+      if ((src != dst) || (srcOff != dstOff))
+        System.arraycopy(src, srcOff, dst, dstOff, len);
+    }
+
     @Override
     public UnitConverter concatenate(UnitConverter converter) {
       return converter;
@@ -162,6 +406,11 @@ public abstract class AbstractConverter implements UnitConverter {
    */
   public static final class Pair extends AbstractConverter {
 
+    /**
+     * Holds the number of values converted at once through the scratch array of the <code>float</code> conversion.
+     */
+    private static final int CHUNK_SIZE = 512;
+
     /**
      * Holds the first converter.
      */
@@ -208,7 +457,8 @@ public abstract class AbstractConverter implements UnitConverter {
 
     @Override
     public Pair inverse() {
-      return new Pair(right.inverse(), left.inverse());
+      Pair inverse = (Pair) getCachedInverse();
+      return inverse != null ? inverse : linkInverse(new Pair(right.inverse(), left.inverse()));
     }
 
     @Override
@@ -216,6 +466,45 @@ public abstract class AbstractConverter implements UnitConverter {
       return left.convert(right.convert(value));
     }
 
+    /**
+     * Converts the values in two passes when both steps are {@link AbstractConverter} instances: the right converter from source to destination,
+     * then the left converter in place on the destination.
+     */
+    @Override
+    public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+      if ((left instanceof AbstractConverter) && (right instanceof AbstractConverter)) {
+        ((AbstractConverter) right).convert(src, srcOff, dst, dstOff, len);
+        ((AbstractConverter) left).convert(dst, dstOff, dst, dstOff, len);
+      } else {
+        super.convert(src, srcOff, dst, dstOff, len);
+      }
+    }
+
+    /**
+     * Converts the values in chunks through a <code>double</code> scratch array when both steps are {@link AbstractConverter} instances, so that the
+     * intermediate results are not rounded to <code>float</code>.
+     */
+    @Override
+    public void convert(float[] src, int srcOff, float[] dst, int dstOff, int len) {
+      if ((left instanceof AbstractConverter) && (right instanceof AbstractConverter)) {
+        checkRange(src.length, srcOff, dst.length, dstOff, len);
+        final double[] scratch = new double[Math.min(len, CHUNK_SIZE)];
+        for (int done = 0; done < len; done += scratch.length) {
+          final int n = Math.min(scratch.length, len - done);
+          for (int i = 0; i < n; i++) {
+            scratch[i] = src[srcOff + done + i];
+          }
+          ((AbstractConverter) right).convert(scratch, 0, scratch, 0, n);
+          ((AbstractConverter) left).convert(scratch, 0, scratch, 0, n);
+          for (int i = 0; i < n; i++) {
+            dst[dstOff + done + i] = (float) scratch[i];
+          }
+        }
+      } else {
+        super.convert(src, srcOff, dst, dstOff, len);
+      }
+    }
+
     @Override
     public boolean equals(Object cvtr) {
       if (this == cvtr)
@@ -228,7 +517,7 @@ public abstract class AbstractConverter implements UnitConverter {
 
     @Override
     public int hashCode() {
-      return left.hashCode() + right.hashCode();
+      return 31 * left.hashCode() + right.hashCode();
     }
 
     public UnitConverter getLeft() {
@@ -31,10 +31,16 @@ package tec.units.ri;
 
 import static tec.units.ri.format.UnitStyle.*;
 
+import java.util.AbstractSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -45,6 +51,9 @@ import javax.measure.spi.SystemOfUnits;
 
 import tec.units.ri.format.SimpleUnitFormat;
 import tec.units.ri.format.UnitStyle;
+import tec.units.ri.spi.DimensionalModel;
+import tec.units.ri.unit.ProductUnit;
+import tec.units.ri.unit.TransformedUnit;
 
 /**
  * <p>
@@ -58,9 +67,9 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits {
   protected static final Logger logger = Logger.getLogger(AbstractSystemOfUnits.class.getName());
 
   /**
-   * Holds the units.
+   * Holds the units (indexed by dimension, name and symbol as they are added).
    */
-  protected final Set<Unit<?>> units = new HashSet<Unit<?>>();
+  protected final Set<Unit<?>> units = new IndexedUnits();
 
   /**
    * Holds the mapping quantity to unit.
@@ -73,6 +82,16 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits {
    */
   protected static final double E = 2.71828182845904523536028747135266;
 
+  /**
+   * Holds the conversion table (built on first use, rebuilt when units are added).
+   */
+  private volatile UnitConversionTable conversionTable;
+
+  /**
+   * Holds the modification count of the units when the conversion table was built.
+   */
+  private volatile int conversionTableModifications;
+
   /*
    * (non-Javadoc)
    * 
@@ -92,15 +111,40 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits {
     return units;
   }
 
+  /**
+   * Returns a new set holding the units of this system having the specified dimension.
+   *
+   * @param dimension
+   *          the dimension.
+   * @return a copy of the units of that dimension (empty if none).
+   */
   @Override
   public Set<? extends Unit<?>> getUnits(Dimension dimension) {
-    final Set<Unit<?>> set = new HashSet<Unit<?>>();
-    for (Unit<?> unit : this.getUnits()) {
-      if (dimension.equals(unit.getDimension())) {
-        set.add(unit);
-      }
-    }
-    return set;
+    return ((IndexedUnits) units).getUnits(dimension);
+  }
+
+  /**
+   * Returns the unit of this system having the specified symbol.
+   *
+   * @param symbol
+   *          the unit symbol.
+   * @return the unit having that symbol or <code>null</code> if none.
+   * @since 1.0.4
+   */
+  public Unit<?> getUnitBySymbol(String symbol) {
+    return ((IndexedUnits) units).symbols.get(symbol);
+  }
+
+  /**
+   * Returns the unit of this system having the specified name.
+   *
+   * @param name
+   *          the unit name.
+   * @return the unit having that name or <code>null</code> if none.
+   * @since 1.0.4
+   */
+  public Unit<?> getUnitByName(String name) {
+    return ((IndexedUnits) units).names.get(name);
   }
 
   @SuppressWarnings("unchecked")
@@ -108,8 +152,173 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits {
     return quantityToUnit.get(quantityType);
   }
 
+  /**
+   * Returns the table of the conversions between the units of this system, giving each unit a dense integer id. The table is rebuilt when units are
+   * added or removed, or when the current dimensional model (see {@link DimensionalModel#current()}) differs from the one it was built with.
+   *
+   * @return the conversion table of this system.
+   * @since 1.0.4
+   */
+  public UnitConversionTable getConversionTable() {
+    UnitConversionTable table = conversionTable;
+    int modifications = ((IndexedUnits) units).modifications.get();
+    if ((table == null) || (conversionTableModifications != modifications) || (table.getModel() != DimensionalModel.current())) {
+      table = UnitConversionTable.of(this);
+      conversionTable = table;
+      conversionTableModifications = modifications;
+    }
+    return table;
+  }
+
+  /**
+   * A thread-safe set of units maintaining indexes by dimension, name and symbol. Units are indexed with the name and symbol they have when added
+   * (see {@link Helper#addUnit}); every removal (including through iterators and bulk operations) updates the indexes.
+   */
+  private static final class IndexedUnits extends AbstractSet<Unit<?>> {
+
+    /**
+     * Holds the units.
+     */
+    private final Set<Unit<?>> units = Collections.newSetFromMap(new ConcurrentHashMap<Unit<?>, Boolean>());
+
+    /**
+     * Holds the units by dimension.
+     */
+    private final ConcurrentMap<Dimension, Set<Unit<?>>> dimensions = new ConcurrentHashMap<Dimension, Set<Unit<?>>>();
+
+    /**
+     * Holds the units by name.
+     */
+    private final ConcurrentMap<String, Unit<?>> names = new ConcurrentHashMap<String, Unit<?>>();
+
+    /**
+     * Holds the units by symbol.
+     */
+    private final ConcurrentMap<String, Unit<?>> symbols = new ConcurrentHashMap<String, Unit<?>>();
+
+    /**
+     * Holds the number of times units were added or removed.
+     */
+    private final AtomicInteger modifications = new AtomicInteger();
+
+    @Override
+    public boolean add(Unit<?> unit) {
+      boolean added = units.add(unit);
+      if (added)
+        modifications.incrementAndGet();
+      Dimension dimension = unit.getDimension();
+      if (added && (dimension != null)) {
+        Set<Unit<?>> set = dimensions.get(dimension);
+        if (set == null) {
+          set = Collections.newSetFromMap(new ConcurrentHashMap<Unit<?>, Boolean>());
+          Set<Unit<?>> previous = dimensions.putIfAbsent(dimension, set);
+          if (previous != null)
+            set = previous;
+        }
+        set.add(unit);
+      }
+      if (unit.getName() != null)
+        names.putIfAbsent(unit.getName(), unit);
+      if (unit.getSymbol() != null)
+        symbols.putIfAbsent(unit.getSymbol(), unit);
+      return added; // Names and symbols are indexed even if the unit was already there (e.g. named afterwards).
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      if (!units.remove(o))
+        return false;
+      unindex((Unit<?>) o);
+      return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return units.contains(o);
+    }
+
+    @Override
+    public int size() {
+      return units.size();
+    }
+
+    /**
+     * Returns an iterator over the units, removing through the iterator updates the indexes.
+     */
+    @Override
+    public Iterator<Unit<?>> iterator() {
+      final Iterator<Unit<?>> iterator = units.iterator();
+      return new Iterator<Unit<?>>() {
+        private Unit<?> current;
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public Unit<?> next() {
+          return current = iterator.next();
+        }
+
+        @Override
+        public void remove() {
+          iterator.remove();
+          unindex(current);
+        }
+      };
+    }
+
+    @Override
+    public void clear() {
+      units.clear();
+      modifications.incrementAndGet();
+      dimensions.clear();
+      names.clear();
+      symbols.clear();
+    }
+
+    Set<Unit<?>> getUnits(Dimension dimension) {
+      Set<Unit<?>> set = dimensions.get(dimension);
+      return (set != null) ? new HashSet<Unit<?>>(set) : new HashSet<Unit<?>>();
+    }
+
+    private void unindex(Unit<?> unit) {
+      modifications.incrementAndGet();
+      Set<Unit<?>> set = (unit.getDimension() != null) ? dimensions.get(unit.getDimension()) : null;
+      if (set != null)
+        set.remove(unit);
+      if (unit.getName() != null)
+        names.remove(unit.getName(), unit);
+      if (unit.getSymbol() != null)
+        symbols.remove(unit.getSymbol(), unit);
+    }
+  }
+
   protected static final class Helper {
+    /**
+     * Returns the unit to be given a name or symbol. Product units and transformed units returned by unit operations may be canonical instances
+     * shared by all equal units (e.g. products, or prefixed units cached by {@link tec.units.ri.unit.MetricPrefix#prefix(Unit)}), so a copy of them
+     * is named instead.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static AbstractUnit<?> toNamed(Unit<?> unit) {
+      if (unit instanceof ProductUnit)
+        return new ProductUnit(unit);
+      if (unit instanceof TransformedUnit) {
+        TransformedUnit<?> transformed = (TransformedUnit<?>) unit;
+        AbstractUnit<?> copy = new TransformedUnit(transformed.getSymbol(), transformed.getParentUnit(), transformed.getSystemUnit(),
+            transformed.getConverter());
+        copy.setName(transformed.getName());
+        return copy;
+      }
+      return (AbstractUnit<?>) unit;
+    }
+
     static Set<Unit<?>> getUnitsOfDimension(final Set<Unit<?>> units, Dimension dimension) {
+      if ((dimension != null) && (units instanceof IndexedUnits)) {
+        return ((IndexedUnits) units).getUnits(dimension);
+      }
       if (dimension != null) {
         Set<Unit<?>> dimSet = new HashSet<Unit<?>>();
         for (Unit<?> u : units) {
@@ -157,19 +366,19 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits {
         case SYMBOL:
         case SYMBOL_AND_LABEL:
           if (name != null && symbol != null && unit instanceof AbstractUnit) {
-            AbstractUnit<?> aUnit = (AbstractUnit<?>) unit;
+            AbstractUnit<?> aUnit = toNamed(unit);
             aUnit.setName(name);
             if (SYMBOL.equals(style) || SYMBOL_AND_LABEL.equals(style)) {
               aUnit.setSymbol(symbol);
             }
             if (LABEL.equals(style) || SYMBOL_AND_LABEL.equals(style)) {
-              SimpleUnitFormat.getInstance().label(unit, symbol);
+              SimpleUnitFormat.getInstance().label(aUnit, symbol);
             }
             units.add(aUnit);
             return (U) aUnit;
           }
           if (name != null && unit instanceof AbstractUnit) {
-            AbstractUnit<?> aUnit = (AbstractUnit<?>) unit;
+            AbstractUnit<?> aUnit = toNamed(unit);
             aUnit.setName(name);
             units.add(aUnit);
             return (U) aUnit;
@@ -208,7 +417,7 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits {
       switch (style) {
         case NAME:
           if (text != null && unit instanceof AbstractUnit) {
-            AbstractUnit<?> aUnit = (AbstractUnit<?>) unit;
+            AbstractUnit<?> aUnit = toNamed(unit);
             aUnit.setName(text);
             units.add(aUnit);
             return (U) aUnit;
@@ -216,7 +425,7 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits {
           break;
         case SYMBOL:
           if (text != null && unit instanceof AbstractUnit) {
-            AbstractUnit<?> aUnit = (AbstractUnit<?>) unit;
+            AbstractUnit<?> aUnit = toNamed(unit);
             aUnit.setSymbol(text);
             units.add(aUnit);
             return (U) aUnit;
@@ -224,7 +433,7 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits {
           break;
         case SYMBOL_AND_LABEL:
           if (text != null && unit instanceof AbstractUnit) {
-            AbstractUnit<?> aUnit = (AbstractUnit<?>) unit;
+            AbstractUnit<?> aUnit = toNamed(unit);
             aUnit.setSymbol(text);
             units.add(aUnit);
             SimpleUnitFormat.getInstance().label(aUnit, text);
@@ -259,20 +468,20 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits {
     @SuppressWarnings("unchecked")
     public static <U extends Unit<?>> U addUnit(Set<Unit<?>> units, U unit, final String name, final String symbol) {
       if (name != null && symbol != null && unit instanceof AbstractUnit) {
-        AbstractUnit<?> aUnit = (AbstractUnit<?>) unit;
+        AbstractUnit<?> aUnit = toNamed(unit);
         aUnit.setName(name);
         aUnit.setSymbol(symbol);
         units.add(aUnit);
         return (U) aUnit;
       }
       if (name != null && unit instanceof AbstractUnit) {
-        AbstractUnit<?> aUnit = (AbstractUnit<?>) unit;
+        AbstractUnit<?> aUnit = toNamed(unit);
         aUnit.setName(name);
         units.add(aUnit);
         return (U) aUnit;
       }
       if (symbol != null && unit instanceof AbstractUnit) {
-        AbstractUnit<?> aUnit = (AbstractUnit<?>) unit;
+        AbstractUnit<?> aUnit = toNamed(unit);
         aUnit.setSymbol(symbol);
         units.add(aUnit);
         return (U) aUnit;
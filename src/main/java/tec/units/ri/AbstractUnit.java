@@ -298,6 +298,9 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q>, Co
   public final UnitConverter getConverterTo(Unit<Q> that) throws UnconvertibleException {
     if ((this == that) || this.equals(that))
       return AbstractConverter.IDENTITY; // Shortcut.
+    UnitConverter converter = ConverterCache.getInstance().get(this, that, null); // Independent of the dimensional model.
+    if (converter != null)
+      return converter;
     Unit<Q> thisSystemUnit = this.getSystemUnit();
     Unit<Q> thatSystemUnit = that.getSystemUnit();
     if (!thisSystemUnit.equals(thatSystemUnit))
@@ -308,23 +311,30 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q>, Co
       }
     UnitConverter thisToSI = this.getSystemConverter();
     UnitConverter thatToSI = that.getConverterTo(thatSystemUnit);
-    return thatToSI.inverse().concatenate(thisToSI);
+    converter = thatToSI.inverse().concatenate(thisToSI);
+    ConverterCache.getInstance().put(this, that, null, converter);
+    return converter;
   }
 
   @SuppressWarnings("rawtypes")
   public final UnitConverter getConverterToAny(Unit<?> that) throws IncommensurableException, UnconvertibleException {
+    DimensionalModel model = DimensionalModel.current();
+    UnitConverter converter = ConverterCache.getInstance().get(this, that, model);
+    if (converter != null)
+      return converter;
     if (!isCompatible(that))
       throw new IncommensurableException(this + " is not compatible with " + that);
     AbstractUnit thatAbstr = (AbstractUnit) that; // Since both units are
     // compatible they must
     // be both abstract
     // units.
-    DimensionalModel model = DimensionalModel.current();
     AbstractUnit thisSystemUnit = this.getSystemUnit();
     UnitConverter thisToDimension = model.getDimensionalTransform(thisSystemUnit.getDimension()).concatenate(this.getSystemConverter());
     AbstractUnit thatSystemUnit = thatAbstr.getSystemUnit();
     UnitConverter thatToDimension = model.getDimensionalTransform(thatSystemUnit.getDimension()).concatenate(thatAbstr.getSystemConverter());
-    return thatToDimension.inverse().concatenate(thisToDimension);
+    converter = thatToDimension.inverse().concatenate(thisToDimension);
+    ConverterCache.getInstance().put(this, that, model, converter);
+    return converter;
   }
 
   @Override
@@ -352,7 +362,7 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q>, Co
   public final Unit<Q> shift(double offset) {
     if (offset == 0)
       return this;
-    return transform(new AddConverter(offset));
+    return transform(ConverterInterner.intern(new AddConverter(offset)));
   }
 
   @Override
@@ -360,8 +370,8 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q>, Co
     if (factor == 1)
       return this;
     if (isLongValue(factor))
-      return transform(new RationalConverter((long) factor, 1));
-    return transform(new MultiplyConverter(factor));
+      return transform(ConverterInterner.intern(new RationalConverter((long) factor, 1)));
+    return transform(ConverterInterner.intern(new MultiplyConverter(factor)));
   }
 
   private static boolean isLongValue(double value) {
@@ -428,8 +438,8 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q>, Co
     if (divisor == 1)
       return this;
     if (isLongValue(divisor))
-      return transform(new RationalConverter(1, (long) divisor));
-    return transform(new MultiplyConverter(1.0 / divisor));
+      return transform(ConverterInterner.intern(new RationalConverter(1, (long) divisor)));
+    return transform(ConverterInterner.intern(new MultiplyConverter(1.0 / divisor)));
   }
 
   /**
@@ -453,13 +463,7 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q>, Co
    *           if <code>n == 0</code> or if this operation would result in an unit with a fractional exponent.
    */
   public final Unit<?> root(int n) {
-    if (n > 0)
-      return ProductUnit.getRootInstance(this, n);
-    else if (n == 0)
-      throw new ArithmeticException("Root's order of zero");
-    else
-      // n < 0
-      return ONE.divide(this.root(-n));
+    return ProductUnit.getRootInstance(this, n); // Also handles n <= 0.
   }
 
   /**
@@ -470,13 +474,7 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q>, Co
    * @return the result of raising this unit to the exponent.
    */
   public final Unit<?> pow(int n) {
-    if (n > 0)
-      return this.multiply(this.pow(n - 1));
-    else if (n == 0)
-      return ONE;
-    else
-      // n < 0
-      return ONE.divide(this.pow(-n));
+    return ProductUnit.getPowInstance(this, n); // Also handles n <= 0.
   }
 
   // //////////////////////////////////////////////////////////////
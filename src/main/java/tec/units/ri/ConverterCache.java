@@ -0,0 +1,365 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import tec.units.ri.spi.DimensionalModel;
+
+/**
+ * <p>
+ * A bounded, thread-safe cache of the converters returned by {@link AbstractUnit#getConverterTo(Unit)} and
+ * {@link AbstractUnit#getConverterToAny(Unit)}, keyed by source unit, target unit and (for converters depending on it) {@link DimensionalModel}.
+ * </p>
+ *
+ * <p>
+ * Lookups never lock: entries are held in a {@link ConcurrentHashMap} and only flag themselves as recently used. Once the capacity is exceeded,
+ * entries not used since the previous sweep are evicted first (clock approximation of the least recently used policy). Units are weakly
+ * referenced; entries of reclaimed units are purged on the next insertion. Hit, miss and eviction counts are kept for monitoring.
+ * </p>
+ *
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.1, October 17, 2026
+ * @since 1.0.4
+ */
+public final class ConverterCache {
+
+  /**
+   * The default maximum number of cached converters.
+   */
+  public static final int DEFAULT_CAPACITY = 256;
+
+  /**
+   * Holds the cache used by {@link AbstractUnit}.
+   */
+  private static final ConverterCache INSTANCE = new ConverterCache(DEFAULT_CAPACITY);
+
+  private final ConcurrentHashMap<Object, Entry> converters = new ConcurrentHashMap<Object, Entry>();
+
+  /**
+   * Holds the references of reclaimed units.
+   */
+  private final ReferenceQueue<Unit<?>> reclaimed = new ReferenceQueue<Unit<?>>();
+
+  /**
+   * Holds the maximum number of cached converters.
+   */
+  private final int capacity;
+
+  private final AtomicLong hits = new AtomicLong();
+
+  private final AtomicLong misses = new AtomicLong();
+
+  private final AtomicLong evictions = new AtomicLong();
+
+  /**
+   * Creates a converter cache holding at most the specified number of converters.
+   *
+   * @param capacity
+   *          the maximum number of cached converters.
+   * @throws IllegalArgumentException
+   *           if <code>capacity &lt;= 0</code>
+   */
+  public ConverterCache(int capacity) {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("Capacity must be positive");
+    this.capacity = capacity;
+  }
+
+  /**
+   * Returns the cache used by {@link AbstractUnit} converter lookups.
+   *
+   * @return the shared converter cache.
+   */
+  public static ConverterCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the cached converter between the specified units for the specified model or <code>null</code> if none is cached.
+   *
+   * @param source
+   *          the source unit.
+   * @param target
+   *          the target unit.
+   * @param model
+   *          the dimensional model the converter was computed with or <code>null</code> if the converter does not depend on it.
+   * @return the cached converter or <code>null</code>.
+   */
+  public UnitConverter get(Unit<?> source, Unit<?> target, DimensionalModel model) {
+    Entry entry = converters.get(new LookupKey(source, target, model));
+    if (entry == null) {
+      misses.incrementAndGet();
+      return null;
+    }
+    if (!entry.used)
+      entry.used = true;
+    hits.incrementAndGet();
+    return entry.converter;
+  }
+
+  /**
+   * Caches the converter between the specified units for the specified model, evicting entries not recently used if needed.
+   *
+   * @param source
+   *          the source unit.
+   * @param target
+   *          the target unit.
+   * @param model
+   *          the dimensional model the converter was computed with or <code>null</code> if the converter does not depend on it.
+   * @param converter
+   *          the converter from source to target.
+   */
+  public void put(Unit<?> source, Unit<?> target, DimensionalModel model, UnitConverter converter) {
+    purge();
+    WeakKey key = new WeakKey(source, target, model, reclaimed);
+    converters.put(key, new Entry(converter));
+    while (converters.size() > capacity) {
+      evict(key);
+    }
+  }
+
+  /**
+   * Removes the cached converters computed with the specified model (e.g. after its dimensional transforms changed).
+   *
+   * @param model
+   *          the dimensional model.
+   */
+  public void remove(DimensionalModel model) {
+    for (Iterator<Object> i = converters.keySet().iterator(); i.hasNext();) {
+      if (((WeakKey) i.next()).model == model)
+        i.remove();
+    }
+  }
+
+  /**
+   * Removes all cached converters (statistics are kept).
+   */
+  public void clear() {
+    converters.clear();
+  }
+
+  /**
+   * Returns the number of cached converters.
+   *
+   * @return the current size of this cache.
+   */
+  public int size() {
+    return converters.size();
+  }
+
+  /**
+   * Returns the maximum number of cached converters.
+   *
+   * @return the capacity of this cache.
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Returns the number of lookups which found a cached converter.
+   *
+   * @return the hit count.
+   */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of lookups which did not find a cached converter.
+   *
+   * @return the miss count.
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * Returns the number of converters evicted because the capacity was reached.
+   *
+   * @return the eviction count.
+   */
+  public long getEvictionCount() {
+    return evictions.get();
+  }
+
+  @Override
+  public String toString() {
+    return "ConverterCache(size=" + converters.size() + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ")";
+  }
+
+  /**
+   * Removes one entry other than the one just inserted, preferably one not used since the previous sweep (used flags are cleared on the way).
+   */
+  private void evict(Object inserted) {
+    Map.Entry<Object, Entry> candidate = null;
+    for (Map.Entry<Object, Entry> e : converters.entrySet()) {
+      if (e.getKey() == inserted)
+        continue;
+      Entry entry = e.getValue();
+      if (!entry.used) {
+        candidate = e;
+        break;
+      }
+      entry.used = false;
+      if (candidate == null)
+        candidate = e;
+    }
+    if (candidate == null) // Only the inserted entry is left.
+      return;
+    if (converters.remove(candidate.getKey(), candidate.getValue()))
+      evictions.incrementAndGet();
+  }
+
+  /**
+   * Removes the entries of reclaimed units.
+   */
+  private void purge() {
+    for (Reference<? extends Unit<?>> ref; (ref = reclaimed.poll()) != null;) {
+      converters.remove(((UnitReference) ref).key);
+    }
+  }
+
+  private static final class Entry {
+    private final UnitConverter converter;
+
+    /**
+     * Set on lookups, cleared by eviction sweeps (races only affect the eviction order).
+     */
+    private volatile boolean used;
+
+    private Entry(UnitConverter converter) {
+      this.converter = converter;
+    }
+  }
+
+  /**
+   * Base class of the cache keys; dimensional models are compared by identity.
+   */
+  private static abstract class Key {
+    final DimensionalModel model;
+    private final int hashCode;
+
+    Key(Unit<?> source, Unit<?> target, DimensionalModel model) {
+      this.model = model;
+      this.hashCode = (source.hashCode() * 31 + target.hashCode()) * 31 + System.identityHashCode(model);
+    }
+
+    abstract Unit<?> source();
+
+    abstract Unit<?> target();
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj)
+        return true;
+      if (!(obj instanceof Key))
+        return false;
+      Key that = (Key) obj;
+      if ((this.hashCode != that.hashCode) || (this.model != that.model))
+        return false;
+      Unit<?> source = source();
+      Unit<?> target = target();
+      return (source != null) && (target != null) && source.equals(that.source()) && target.equals(that.target());
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  /**
+   * Transient key used for lookups.
+   */
+  private static final class LookupKey extends Key {
+    private final Unit<?> source;
+    private final Unit<?> target;
+
+    private LookupKey(Unit<?> source, Unit<?> target, DimensionalModel model) {
+      super(source, target, model);
+      this.source = source;
+      this.target = target;
+    }
+
+    @Override
+    Unit<?> source() {
+      return source;
+    }
+
+    @Override
+    Unit<?> target() {
+      return target;
+    }
+  }
+
+  /**
+   * Stored key, weakly referencing its units (a key whose units were reclaimed only equals itself).
+   */
+  private static final class WeakKey extends Key {
+    private final UnitReference source;
+    private final UnitReference target;
+
+    private WeakKey(Unit<?> source, Unit<?> target, DimensionalModel model, ReferenceQueue<Unit<?>> queue) {
+      super(source, target, model);
+      this.source = new UnitReference(source, this, queue);
+      this.target = new UnitReference(target, this, queue);
+    }
+
+    @Override
+    Unit<?> source() {
+      return source.get();
+    }
+
+    @Override
+    Unit<?> target() {
+      return target.get();
+    }
+  }
+
+  private static final class UnitReference extends WeakReference<Unit<?>> {
+    private final WeakKey key;
+
+    private UnitReference(Unit<?> unit, WeakKey key, ReferenceQueue<Unit<?>> queue) {
+      super(unit, queue);
+      this.key = key;
+    }
+  }
+}
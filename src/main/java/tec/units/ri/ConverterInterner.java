@@ -0,0 +1,144 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.measure.UnitConverter;
+
+/**
+ * <p>
+ * A thread-safe, weak interning table of unit converters. Interning returns a canonical instance for all equal converters (e.g. the many
+ * <code>RationalConverter(1,1000)</code> produced by prefix concatenations), so that equality checks on interned converters usually reduce to an
+ * identity check and converter keyed caches hold a single instance per value.
+ * </p>
+ *
+ * <p>
+ * Converters are only weakly referenced; canonical instances no longer used elsewhere are reclaimed by the garbage collector. The results of
+ * {@link AbstractConverter#concatenate(UnitConverter)}, of {@link AbstractConverter#inverse()} and the converters created by
+ * {@link AbstractUnit#shift(double)}, {@link AbstractUnit#multiply(double)}, {@link AbstractUnit#divide(double)} and by metric prefixes are
+ * interned.
+ * </p>
+ *
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+public final class ConverterInterner {
+
+  /**
+   * Holds the weak references to the canonical converters, each mapped to itself (lookups do not lock).
+   */
+  private static final ConcurrentHashMap<Ref, Ref> CONVERTERS = new ConcurrentHashMap<Ref, Ref>();
+
+  /**
+   * Holds the references to the canonical converters reclaimed by the garbage collector, removed from the table on the next interning.
+   */
+  private static final ReferenceQueue<UnitConverter> QUEUE = new ReferenceQueue<UnitConverter>();
+
+  private ConverterInterner() {
+  }
+
+  /**
+   * Returns the canonical instance of the specified converter. If an equal converter has already been interned (and is still referenced), that
+   * instance is returned; otherwise the specified converter becomes the canonical instance.
+   *
+   * @param converter
+   *          the converter to intern.
+   * @return the canonical converter equal to the specified one.
+   */
+  @SuppressWarnings("unchecked")
+  public static <C extends UnitConverter> C intern(C converter) {
+    if ((converter == null) || converter.isIdentity())
+      return converter;
+    purge();
+    Ref ref = new Ref(converter, QUEUE);
+    Ref existing = CONVERTERS.get(ref);
+    while (true) {
+      if (existing == null) {
+        existing = CONVERTERS.putIfAbsent(ref, ref);
+        if (existing == null)
+          return converter;
+      }
+      UnitConverter canonical = existing.get();
+      if (canonical != null)
+        return (C) canonical;
+      CONVERTERS.remove(existing); // Reclaimed but not yet purged (matched by identity only).
+      existing = null;
+    }
+  }
+
+  private static void purge() {
+    for (Reference<? extends UnitConverter> ref; (ref = QUEUE.poll()) != null;) {
+      CONVERTERS.remove(ref);
+    }
+  }
+
+  /**
+   * Returns the number of canonical converters currently held (including entries not yet reclaimed).
+   *
+   * @return the size of the table.
+   */
+  public static int size() {
+    return CONVERTERS.size();
+  }
+
+  /**
+   * A weak reference to a converter, equal to the references of equal converters of the same class while not cleared.
+   */
+  private static final class Ref extends WeakReference<UnitConverter> {
+
+    private final int hash;
+
+    Ref(UnitConverter converter, ReferenceQueue<UnitConverter> queue) {
+      super(converter, queue);
+      hash = converter.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj)
+        return true;
+      if (!(obj instanceof Ref) || (((Ref) obj).hash != hash))
+        return false;
+      UnitConverter converter = get();
+      UnitConverter other = ((Ref) obj).get();
+      return (converter != null) && (other != null) && (converter.getClass() == other.getClass()) && converter.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -0,0 +1,297 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.measure.Dimension;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.spi.SystemOfUnits;
+
+import tec.units.ri.function.AddConverter;
+import tec.units.ri.function.AffineConverter;
+import tec.units.ri.spi.DimensionalModel;
+
+/**
+ * <p>
+ * An immutable table of the conversions between the units of a system of units. Each unit is given a dense integer id, units of the same dimension
+ * having consecutive ids; for each dimension the factor and offset of every conversion are precomputed in primitive arrays, so that converting
+ * between two registered units is an index computation and a multiply-add.
+ * </p>
+ *
+ * <code>
+ *     UnitConversionTable table = Units.getInstance().getConversionTable();
+ *     int kmh = table.getId(Units.KILOMETRE_PER_HOUR);
+ *     int ms = table.getId(Units.METRE_PER_SECOND);
+ *     double speed = table.convert(36, kmh, ms); // 10.0
+ * </code>
+ *
+ * <p>
+ * Only conversions which are linear or affine are tabulated; other conversions (e.g. logarithmic units) are reported as not convertible.
+ * Conversions are computed with the dimensional model current when the table is built (see {@link DimensionalModel#current()}).
+ * </p>
+ *
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+public final class UnitConversionTable {
+
+  /**
+   * Holds the units by id.
+   */
+  private final Unit<?>[] units;
+
+  /**
+   * Holds the ids by unit.
+   */
+  private final Map<Unit<?>, Integer> ids;
+
+  /**
+   * Holds the first id of the dimension group of each unit.
+   */
+  private final int[] groupStart;
+
+  /**
+   * Holds the size of the dimension group of each unit.
+   */
+  private final int[] groupSize;
+
+  /**
+   * Holds, for each unit, the conversion factors of its dimension group (row-major, <code>NaN</code> when not convertible).
+   */
+  private final double[][] factors;
+
+  /**
+   * Holds, for each unit, the conversion offsets of its dimension group (row-major).
+   */
+  private final double[][] offsets;
+
+  /**
+   * Holds the dimensional model the conversions were computed with.
+   */
+  private final DimensionalModel model = DimensionalModel.current();
+
+  private UnitConversionTable(List<List<Unit<?>>> groups, int count) {
+    units = new Unit<?>[count];
+    ids = new HashMap<Unit<?>, Integer>(count * 2);
+    groupStart = new int[count];
+    groupSize = new int[count];
+    factors = new double[count][];
+    offsets = new double[count][];
+    int id = 0;
+    for (List<Unit<?>> group : groups) {
+      int n = group.size();
+      double[] groupFactors = new double[n * n];
+      double[] groupOffsets = new double[n * n];
+      for (int i = 0; i < n; i++) {
+        for (int j = 0; j < n; j++) {
+          tabulate(group.get(i), group.get(j), groupFactors, groupOffsets, i * n + j);
+        }
+      }
+      for (int i = 0; i < n; i++) {
+        units[id + i] = group.get(i);
+        ids.put(group.get(i), id + i);
+        groupStart[id + i] = id;
+        groupSize[id + i] = n;
+        factors[id + i] = groupFactors;
+        offsets[id + i] = groupOffsets;
+      }
+      id += n;
+    }
+  }
+
+  /**
+   * Returns the conversion table of the units of the specified system.
+   *
+   * @param system
+   *          the system of units.
+   * @return the table of the conversions between the units of the system.
+   */
+  public static UnitConversionTable of(SystemOfUnits system) {
+    Map<Dimension, List<Unit<?>>> groups = new LinkedHashMap<Dimension, List<Unit<?>>>();
+    int count = 0;
+    for (Unit<?> unit : system.getUnits()) {
+      if (!(unit instanceof AbstractUnit))
+        continue; // Conversion not available.
+      List<Unit<?>> group = groups.get(unit.getDimension());
+      if (group == null) {
+        group = new ArrayList<Unit<?>>();
+        groups.put(unit.getDimension(), group);
+      }
+      if (!group.contains(unit)) {
+        group.add(unit);
+        count++;
+      }
+    }
+    return new UnitConversionTable(new ArrayList<List<Unit<?>>>(groups.values()), count);
+  }
+
+  /**
+   * Returns the number of units in this table (ids range from <code>0</code> to <code>size() - 1</code>).
+   *
+   * @return the number of units.
+   */
+  public int size() {
+    return units.length;
+  }
+
+  /**
+   * Returns the id of the specified unit.
+   *
+   * @param unit
+   *          the unit.
+   * @return the id of the unit or <code>-1</code> if the unit is not in this table.
+   */
+  public int getId(Unit<?> unit) {
+    Integer id = ids.get(unit);
+    return (id != null) ? id : -1;
+  }
+
+  /**
+   * Returns the unit having the specified id.
+   *
+   * @param id
+   *          the unit id.
+   * @return the corresponding unit.
+   * @throws IndexOutOfBoundsException
+   *           if the id is not valid.
+   */
+  public Unit<?> getUnit(int id) {
+    return units[id];
+  }
+
+  /**
+   * Indicates if the unit having the <code>from</code> id can be converted to the unit having the <code>to</code> id.
+   *
+   * @param from
+   *          the source unit id.
+   * @param to
+   *          the target unit id.
+   * @return <code>true</code> if the conversion is tabulated; <code>false</code> otherwise.
+   */
+  public boolean isConvertible(int from, int to) {
+    return (groupStart[from] == groupStart[to]) && !Double.isNaN(factors[from][index(from, to)]);
+  }
+
+  /**
+   * Converts the specified value from the unit having the <code>from</code> id to the unit having the <code>to</code> id.
+   *
+   * @param value
+   *          the value stated in the source unit.
+   * @param from
+   *          the source unit id.
+   * @param to
+   *          the target unit id.
+   * @return the value stated in the target unit.
+   * @throws UnconvertibleException
+   *           if the conversion is not tabulated.
+   */
+  public double convert(double value, int from, int to) {
+    if (groupStart[from] != groupStart[to])
+      throw new UnconvertibleException(units[from] + " is not convertible to " + units[to]);
+    int index = index(from, to);
+    double factor = factors[from][index];
+    if (Double.isNaN(factor))
+      throw new UnconvertibleException(units[from] + " is not convertible to " + units[to]);
+    return value * factor + offsets[from][index];
+  }
+
+  /**
+   * Converts in place the specified values from the unit having the <code>from</code> id to the unit having the <code>to</code> id.
+   *
+   * @param values
+   *          the values stated in the source unit, replaced by the values stated in the target unit.
+   * @param from
+   *          the source unit id.
+   * @param to
+   *          the target unit id.
+   * @throws UnconvertibleException
+   *           if the conversion is not tabulated.
+   */
+  public void convert(double[] values, int from, int to) {
+    if (groupStart[from] != groupStart[to])
+      throw new UnconvertibleException(units[from] + " is not convertible to " + units[to]);
+    int index = index(from, to);
+    double factor = factors[from][index];
+    double offset = offsets[from][index];
+    if (Double.isNaN(factor))
+      throw new UnconvertibleException(units[from] + " is not convertible to " + units[to]);
+    for (int i = 0; i < values.length; i++) {
+      values[i] = values[i] * factor + offset;
+    }
+  }
+
+  /**
+   * Returns the dimensional model the conversions of this table were computed with.
+   */
+  DimensionalModel getModel() {
+    return model;
+  }
+
+  private int index(int from, int to) {
+    int start = groupStart[from];
+    return (from - start) * groupSize[from] + (to - start);
+  }
+
+  /**
+   * Stores the factor and offset of the conversion from the source to the target unit (<code>NaN</code> factor if not linear or affine).
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private static void tabulate(Unit<?> source, Unit<?> target, double[] factors, double[] offsets, int index) {
+    UnitConverter converter;
+    try {
+      converter = ((Unit) source).getConverterTo(target);
+    } catch (UnconvertibleException e) {
+      factors[index] = Double.NaN;
+      return;
+    } catch (UnsupportedOperationException e) { // e.g. non-linear dimensional transform.
+      factors[index] = Double.NaN;
+      return;
+    }
+    if (converter instanceof AffineConverter) {
+      factors[index] = ((AffineConverter) converter).getFactor();
+      offsets[index] = ((AffineConverter) converter).getOffset();
+    } else if (converter instanceof AddConverter) {
+      factors[index] = 1.0;
+      offsets[index] = ((AddConverter) converter).getOffset();
+    } else if (converter.isLinear()) {
+      factors[index] = converter.convert(1.0);
+    } else { // Affine chains are folded into affine or add converters, others are not tabulated.
+      factors[index] = Double.NaN;
+    }
+  }
+}
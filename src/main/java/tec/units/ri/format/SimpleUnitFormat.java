@@ -855,17 +855,19 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
       Units.HERTZ, Units.JOULE, Units.KATAL, Units.KELVIN, Units.LUMEN, Units.LUX, Units.METRE, Units.MOLE, Units.NEWTON, Units.OHM, Units.PASCAL,
       Units.RADIAN, Units.SECOND, Units.SIEMENS, Units.SIEVERT, Units.STERADIAN, Units.TESLA, Units.VOLT, Units.WATT, Units.WEBER };
 
-  private static final String[] PREFIXES = { YOTTA.getSymbol(), ZETTA.getSymbol(), EXA.getSymbol(), PETA.getSymbol(), TERA.getSymbol(),
-      GIGA.getSymbol(), MEGA.getSymbol(), KILO.getSymbol(), HECTO.getSymbol(), DEKA.getSymbol(), DECI.getSymbol(), CENTI.getSymbol(),
-      MILLI.getSymbol(), MICRO.getSymbol(), NANO.getSymbol(), PICO.getSymbol(), FEMTO.getSymbol(), ATTO.getSymbol(), ZEPTO.getSymbol(),
-      YOCTO.getSymbol() };
-
-  // TODO we could try retrieving this dynamically in a static {} method from
-  // MetricPrefix if symbols above are also aligned
-  private static final UnitConverter[] CONVERTERS = { YOTTA.getConverter(), ZETTA.getConverter(), EXA.getConverter(), PETA.getConverter(),
-      TERA.getConverter(), GIGA.getConverter(), MEGA.getConverter(), KILO.getConverter(), HECTO.getConverter(), DEKA.getConverter(),
-      DECI.getConverter(), CENTI.getConverter(), MILLI.getConverter(), MICRO.getConverter(), NANO.getConverter(), PICO.getConverter(),
-      FEMTO.getConverter(), ATTO.getConverter(), ZEPTO.getConverter(), YOCTO.getConverter() };
+  private static final MetricPrefix[] METRIC_PREFIXES = MetricPrefix.values();
+
+  // Symbols and converters of the metric prefixes, indexed as METRIC_PREFIXES.
+  private static final String[] PREFIXES = new String[METRIC_PREFIXES.length];
+
+  private static final UnitConverter[] CONVERTERS = new UnitConverter[METRIC_PREFIXES.length];
+
+  static {
+    for (int i = 0; i < METRIC_PREFIXES.length; i++) {
+      PREFIXES[i] = METRIC_PREFIXES[i].getSymbol();
+      CONVERTERS[i] = METRIC_PREFIXES[i].getConverter();
+    }
+  }
 
   private static String asciiPrefix(String prefix) {
     return prefix == "µ" ? "micro" : prefix;
@@ -893,7 +895,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
       if (isAllASCII(symbol))
         ASCII.label(si, symbol);
       for (int j = 0; j < PREFIXES.length; j++) {
-        Unit<?> u = si.transform(CONVERTERS[j]);
+        Unit<?> u = METRIC_PREFIXES[j].prefix(si);
         DEFAULT.label(u, PREFIXES[j] + symbol);
         if (PREFIXES[j] == "µ") {
           ASCII.label(u, "micro"); // + symbol);
@@ -916,8 +918,9 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
     DEFAULT.alias(Units.OHM, "Ohm");
     ASCII.label(Units.OHM, "Ohm");
     for (int i = 0; i < PREFIXES.length; i++) {
-      DEFAULT.alias(Units.OHM.transform(CONVERTERS[i]), PREFIXES[i] + "Ohm");
-      ASCII.label(Units.OHM.transform(CONVERTERS[i]), asciiPrefix(PREFIXES[i]) + "Ohm");
+      Unit<?> u = METRIC_PREFIXES[i].prefix(Units.OHM);
+      DEFAULT.alias(u, PREFIXES[i] + "Ohm");
+      ASCII.label(u, asciiPrefix(PREFIXES[i]) + "Ohm");
     }
 
     // Special case for DEGREE_CElSIUS.
@@ -927,9 +930,10 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
     // DEFAULT.alias(Units.CELSIUS, "°C");
     ASCII.label(Units.CELSIUS, "Celsius");
     for (int i = 0; i < PREFIXES.length; i++) {
-      DEFAULT.label(Units.CELSIUS.transform(CONVERTERS[i]), PREFIXES[i] + "℃");
-      DEFAULT.alias(Units.CELSIUS.transform(CONVERTERS[i]), PREFIXES[i] + "°C");
-      ASCII.label(Units.CELSIUS.transform(CONVERTERS[i]), asciiPrefix(PREFIXES[i]) + "Celsius");
+      Unit<?> u = METRIC_PREFIXES[i].prefix(Units.CELSIUS);
+      DEFAULT.label(u, PREFIXES[i] + "℃");
+      DEFAULT.alias(u, PREFIXES[i] + "°C");
+      ASCII.label(u, asciiPrefix(PREFIXES[i]) + "Celsius");
     }
 
     DEFAULT.label(Units.PERCENT, "%");
@@ -32,6 +32,9 @@ package tec.units.ri.function;
 import javax.measure.UnitConverter;
 
 import tec.units.ri.AbstractConverter;
+import tec.units.ri.ConverterInterner;
+import tec.units.ri.internal.BulkConversion;
+import tec.units.ri.spi.BulkConversionProvider;
 import tec.uom.lib.common.function.ValueSupplier;
 
 /**
@@ -83,12 +86,13 @@ public final class AddConverter extends AbstractConverter implements ValueSuppli
     if (!(converter instanceof AddConverter))
       return super.concatenate(converter);
     double newOffset = offset + ((AddConverter) converter).offset;
-    return newOffset == 0.0 ? IDENTITY : new AddConverter(newOffset);
+    return newOffset == 0.0 ? IDENTITY : ConverterInterner.intern(new AddConverter(newOffset));
   }
 
   @Override
   public AddConverter inverse() {
-    return new AddConverter(-offset);
+    AddConverter inverse = (AddConverter) getCachedInverse();
+    return inverse != null ? inverse : linkInverse(new AddConverter(-offset));
   }
 
   @Override
@@ -96,6 +100,34 @@ public final class AddConverter extends AbstractConverter implements ValueSuppli
     return value + offset;
   }
 
+  @Override
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    final BulkConversionProvider provider = BulkConversion.getProvider();
+    if (provider != null) {
+      provider.convert(1.0, offset, src, srcOff, dst, dstOff, len);
+      return;
+    }
+    final double offset = this.offset;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = src[srcOff + i] + offset;
+    }
+  }
+
+  @Override
+  public void convert(float[] src, int srcOff, float[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    final BulkConversionProvider provider = BulkConversion.getProvider();
+    if (provider != null) {
+      provider.convert(1.0, offset, src, srcOff, dst, dstOff, len);
+      return;
+    }
+    final double offset = this.offset;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = (float) (src[srcOff + i] + offset);
+    }
+  }
+
   @Override
   public final String toString() {
     return "AddConverter(" + offset + ")";
@@ -103,11 +135,13 @@ public final class AddConverter extends AbstractConverter implements ValueSuppli
 
   @Override
   public boolean equals(Object obj) {
+    if (this == obj)
+      return true;
     if (!(obj instanceof AddConverter)) {
       return false;
     }
     AddConverter that = (AddConverter) obj;
-    return this.offset == that.offset;
+    return Double.compare(this.offset, that.offset) == 0; // Consistent with hashCode().
   }
 
   @Override
@@ -0,0 +1,237 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.function;
+
+import javax.measure.UnitConverter;
+
+import tec.units.ri.AbstractConverter;
+import tec.units.ri.internal.BulkConversion;
+import tec.units.ri.spi.BulkConversionProvider;
+import tec.uom.lib.common.function.ValueSupplier;
+
+/**
+ * <p>
+ * This class represents a converter multiplying numeric values by a constant scaling factor and then adding a constant offset (<code>y = a*x + b</code>,
+ * <code>double</code> based).
+ * </p>
+ *
+ * <p>
+ * Instances of this class are typically the result of concatenating {@link RationalConverter}, {@link MultiplyConverter}, {@link AddConverter} or
+ * π converters, which are folded into a single multiply-add (see {@link #fold(UnitConverter, UnitConverter)}).
+ * </p>
+ *
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+public final class AffineConverter extends AbstractConverter implements ValueSupplier<String> {
+
+  /**
+   * Holds the scale factor.
+   */
+  private final double factor;
+
+  /**
+   * Holds the offset (added after scaling).
+   */
+  private final double offset;
+
+  /**
+   * Creates an affine converter with the specified scale factor and offset.
+   *
+   * @param factor
+   *          the scaling factor.
+   * @param offset
+   *          the offset added after scaling.
+   * @throws IllegalArgumentException
+   *           if factor is <code>1.0</code> and offset is <code>0.0</code> (would result in identity converter)
+   */
+  public AffineConverter(double factor, double offset) {
+    if (factor == 1.0 && offset == 0.0)
+      throw new IllegalArgumentException("Would result in identity converter");
+    this.factor = factor;
+    this.offset = offset;
+  }
+
+  /**
+   * Returns the simplest converter for <code>y = factor*x + offset</code>, that is the identity, a {@link MultiplyConverter}, an {@link AddConverter}
+   * or an {@link AffineConverter}.
+   *
+   * @param factor
+   *          the scaling factor.
+   * @param offset
+   *          the offset added after scaling.
+   * @return the corresponding converter.
+   */
+  public static AbstractConverter of(double factor, double offset) {
+    if (offset == 0.0)
+      return factor == 1.0 ? IDENTITY : new MultiplyConverter(factor);
+    if (factor == 1.0)
+      return new AddConverter(offset);
+    return new AffineConverter(factor, offset);
+  }
+
+  /**
+   * Folds the concatenation of the specified converters into a single converter when both are affine (rational, multiply, add or π converters).
+   * Rational converters are concatenated exactly.
+   *
+   * @param left
+   *          the converter applied last.
+   * @param right
+   *          the converter applied first.
+   * @return the folded converter equivalent to <code>left(right(x))</code> or <code>null</code> if either converter is not affine.
+   */
+  public static UnitConverter fold(UnitConverter left, UnitConverter right) {
+    if (!isAffine(left) || !isAffine(right))
+      return null;
+    if ((left instanceof RationalConverter) && (right instanceof RationalConverter))
+      return left.concatenate(right);
+    if (((left instanceof PiMultiplierConverter) && (right instanceof PiDivisorConverter))
+        || ((left instanceof PiDivisorConverter) && (right instanceof PiMultiplierConverter)))
+      return IDENTITY;
+    double leftFactor = factorOf(left);
+    return of(leftFactor * factorOf(right), leftFactor * offsetOf(right) + offsetOf(left));
+  }
+
+  private static boolean isAffine(UnitConverter converter) {
+    return (converter instanceof RationalConverter) || (converter instanceof MultiplyConverter) || (converter instanceof AddConverter)
+        || (converter instanceof AffineConverter) || (converter instanceof PiMultiplierConverter) || (converter instanceof PiDivisorConverter);
+  }
+
+  private static double factorOf(UnitConverter converter) {
+    if (converter instanceof RationalConverter)
+      return ((RationalConverter) converter).getAsDouble();
+    if (converter instanceof MultiplyConverter)
+      return ((MultiplyConverter) converter).getFactor();
+    if (converter instanceof AffineConverter)
+      return ((AffineConverter) converter).factor;
+    if (converter instanceof PiMultiplierConverter)
+      return PI;
+    if (converter instanceof PiDivisorConverter)
+      return 1.0 / PI;
+    return 1.0; // AddConverter
+  }
+
+  private static double offsetOf(UnitConverter converter) {
+    if (converter instanceof AddConverter)
+      return ((AddConverter) converter).getOffset();
+    if (converter instanceof AffineConverter)
+      return ((AffineConverter) converter).offset;
+    return 0.0;
+  }
+
+  /**
+   * Returns the scale factor of this converter.
+   *
+   * @return the scale factor.
+   */
+  public double getFactor() {
+    return factor;
+  }
+
+  /**
+   * Returns the offset of this converter.
+   *
+   * @return the offset added after scaling.
+   */
+  public double getOffset() {
+    return offset;
+  }
+
+  @Override
+  public AbstractConverter inverse() {
+    AbstractConverter inverse = getCachedInverse();
+    return inverse != null ? inverse : linkInverse(of(1.0 / factor, -offset / factor));
+  }
+
+  @Override
+  public double convert(double value) {
+    return value * factor + offset;
+  }
+
+  @Override
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    final BulkConversionProvider provider = BulkConversion.getProvider();
+    if (provider != null) {
+      provider.convert(factor, offset, src, srcOff, dst, dstOff, len);
+      return;
+    }
+    final double factor = this.factor;
+    final double offset = this.offset;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = src[srcOff + i] * factor + offset;
+    }
+  }
+
+  @Override
+  public void convert(float[] src, int srcOff, float[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    final BulkConversionProvider provider = BulkConversion.getProvider();
+    if (provider != null) {
+      provider.convert(factor, offset, src, srcOff, dst, dstOff, len);
+      return;
+    }
+    final double factor = this.factor;
+    final double offset = this.offset;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = (float) (src[srcOff + i] * factor + offset);
+    }
+  }
+
+  @Override
+  public final String toString() {
+    return "AffineConverter(" + factor + "," + offset + ")";
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj)
+      return true;
+    if (!(obj instanceof AffineConverter))
+      return false;
+    AffineConverter that = (AffineConverter) obj;
+    return (Double.compare(this.factor, that.factor) == 0) && (Double.compare(this.offset, that.offset) == 0); // Consistent with hashCode().
+  }
+
+  @Override
+  public int hashCode() {
+    long bits = Double.doubleToLongBits(factor) * 31 + Double.doubleToLongBits(offset);
+    return (int) (bits ^ (bits >>> 32));
+  }
+
+  public boolean isLinear() {
+    return false;
+  }
+
+  public String getValue() {
+    return toString();
+  }
+}
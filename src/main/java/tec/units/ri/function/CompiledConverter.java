@@ -0,0 +1,300 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.function;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.measure.UnitConverter;
+
+import tec.units.ri.AbstractConverter;
+import tec.units.ri.internal.MathUtil;
+import tec.uom.lib.common.function.ValueSupplier;
+
+/**
+ * <p>
+ * This class represents a converter compiled into a flat program of steps with their constants inlined. The source converter tree (e.g.
+ * {@link AbstractConverter.Pair}, {@link RationalConverter}, {@link AddConverter}, {@link LogConverter}) is walked once, and every conversion then
+ * runs one loop over an array of operation codes in this single final class, instead of dispatching through the {@link UnitConverter} interface at
+ * each level of the tree. Call sites converting with compiled converters therefore stay monomorphic whatever the converter types involved.
+ * </p>
+ *
+ * <p>
+ * Compilation is opt-in, it is intended for long-running applications converting repeatedly between the same units:[code]
+ * UnitConverter converter = CompiledConverter.of(FAHRENHEIT.getConverterTo(KELVIN)); [/code] Bulk conversions apply each step to the whole range
+ * in a tight loop. Converters of unknown type are kept as steps invoking their {@link UnitConverter#convert(double)} method.
+ * </p>
+ *
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+public final class CompiledConverter extends AbstractConverter implements ValueSupplier<String> {
+
+  private static final byte MULTIPLY = 0;
+
+  private static final byte DIVIDE = 1;
+
+  private static final byte ADD = 2;
+
+  private static final byte AFFINE = 3;
+
+  private static final byte LOG = 4;
+
+  private static final byte EXP = 5;
+
+  private static final byte CONVERT = 6;
+
+  /**
+   * Holds the converter this converter was compiled from.
+   */
+  private final UnitConverter source;
+
+  /**
+   * Holds the operation codes, in the order they are applied.
+   */
+  private final byte[] operations;
+
+  /**
+   * Holds the two constants of each operation (factor, divisor, offset or logarithm of the base, then offset for affine operations).
+   */
+  private final double[] constants;
+
+  /**
+   * Holds the converters invoked by {@link #CONVERT} operations (<code>null</code> for other operations).
+   */
+  private final UnitConverter[] converters;
+
+  private CompiledConverter(UnitConverter source, List<UnitConverter> steps) {
+    this.source = source;
+    int n = steps.size();
+    operations = new byte[n];
+    constants = new double[2 * n];
+    converters = new UnitConverter[n];
+    for (int i = 0; i < n; i++) {
+      compile(steps.get(i), i);
+    }
+  }
+
+  /**
+   * Returns the compiled form of the specified converter. Compiling an already compiled converter returns it unchanged.
+   *
+   * @param converter
+   *          the converter to compile.
+   * @return the compiled converter, equivalent to the specified one.
+   * @throws IllegalArgumentException
+   *           if the converter is <code>null</code>.
+   */
+  public static CompiledConverter of(UnitConverter converter) {
+    if (converter == null)
+      throw new IllegalArgumentException("Converter cannot be null");
+    if (converter instanceof CompiledConverter)
+      return (CompiledConverter) converter;
+    List<UnitConverter> steps = new ArrayList<UnitConverter>();
+    flatten(converter, steps);
+    return new CompiledConverter(converter, steps);
+  }
+
+  /**
+   * Appends the steps of the specified converter in the order they are applied (right step of a pair first).
+   */
+  private static void flatten(UnitConverter converter, List<UnitConverter> steps) {
+    if (converter.isIdentity())
+      return;
+    if (converter instanceof AbstractConverter.Pair) {
+      AbstractConverter.Pair pair = (AbstractConverter.Pair) converter;
+      flatten(pair.getRight(), steps);
+      flatten(pair.getLeft(), steps);
+    } else {
+      steps.add(converter);
+    }
+  }
+
+  private void compile(UnitConverter step, int i) {
+    if (step instanceof RationalConverter) {
+      set(i, MULTIPLY, ((RationalConverter) step).getAsDouble(), 0);
+    } else if (step instanceof MultiplyConverter) {
+      set(i, MULTIPLY, ((MultiplyConverter) step).getFactor(), 0);
+    } else if (step instanceof PiMultiplierConverter) {
+      set(i, MULTIPLY, PI, 0);
+    } else if (step instanceof PiDivisorConverter) {
+      set(i, DIVIDE, PI, 0);
+    } else if (step instanceof AddConverter) {
+      set(i, ADD, ((AddConverter) step).getOffset(), 0);
+    } else if (step instanceof AffineConverter) {
+      set(i, AFFINE, ((AffineConverter) step).getFactor(), ((AffineConverter) step).getOffset());
+    } else if (step instanceof LogConverter) {
+      set(i, LOG, MathUtil.log(((LogConverter) step).getBase()), 0);
+    } else if (step instanceof ExpConverter) {
+      set(i, EXP, MathUtil.log(((ExpConverter) step).getBase()), 0);
+    } else {
+      set(i, CONVERT, 0, 0);
+      converters[i] = step;
+    }
+  }
+
+  private void set(int i, byte operation, double first, double second) {
+    operations[i] = operation;
+    constants[2 * i] = first;
+    constants[2 * i + 1] = second;
+  }
+
+  /**
+   * Returns the converter this converter was compiled from.
+   *
+   * @return the source converter.
+   */
+  public UnitConverter getSource() {
+    return source;
+  }
+
+  @Override
+  public double convert(double value) {
+    final byte[] operations = this.operations;
+    final double[] constants = this.constants;
+    for (int i = 0; i < operations.length; i++) {
+      final double constant = constants[2 * i];
+      switch (operations[i]) {
+        case MULTIPLY:
+          value = value * constant;
+          break;
+        case DIVIDE:
+          value = value / constant;
+          break;
+        case ADD:
+          value = value + constant;
+          break;
+        case AFFINE:
+          value = value * constant + constants[2 * i + 1];
+          break;
+        case LOG:
+          value = MathUtil.log(value) / constant;
+          break;
+        case EXP:
+          value = MathUtil.exp(constant * value);
+          break;
+        default:
+          value = converters[i].convert(value);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Converts the values one step at a time, each step being applied to the whole range in a tight loop.
+   */
+  @Override
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    if (src != dst || srcOff != dstOff)
+      System.arraycopy(src, srcOff, dst, dstOff, len);
+    final int end = dstOff + len;
+    for (int i = 0; i < operations.length; i++) {
+      final double constant = constants[2 * i];
+      switch (operations[i]) {
+        case MULTIPLY:
+          for (int j = dstOff; j < end; j++) {
+            dst[j] = dst[j] * constant;
+          }
+          break;
+        case DIVIDE:
+          for (int j = dstOff; j < end; j++) {
+            dst[j] = dst[j] / constant;
+          }
+          break;
+        case ADD:
+          for (int j = dstOff; j < end; j++) {
+            dst[j] = dst[j] + constant;
+          }
+          break;
+        case AFFINE:
+          final double offset = constants[2 * i + 1];
+          for (int j = dstOff; j < end; j++) {
+            dst[j] = dst[j] * constant + offset;
+          }
+          break;
+        case LOG:
+          for (int j = dstOff; j < end; j++) {
+            dst[j] = MathUtil.log(dst[j]) / constant;
+          }
+          break;
+        case EXP:
+          for (int j = dstOff; j < end; j++) {
+            dst[j] = MathUtil.exp(constant * dst[j]);
+          }
+          break;
+        default:
+          final UnitConverter converter = converters[i];
+          for (int j = dstOff; j < end; j++) {
+            dst[j] = converter.convert(dst[j]);
+          }
+      }
+    }
+  }
+
+  @Override
+  public CompiledConverter inverse() {
+    CompiledConverter inverse = (CompiledConverter) getCachedInverse();
+    return inverse != null ? inverse : linkInverse(of(source.inverse()));
+  }
+
+  @Override
+  public boolean isIdentity() {
+    return operations.length == 0;
+  }
+
+  public boolean isLinear() {
+    return source.isLinear();
+  }
+
+  @Override
+  public final String toString() {
+    return "CompiledConverter(" + source + ")";
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj)
+      return true;
+    if (!(obj instanceof CompiledConverter))
+      return false;
+    CompiledConverter that = (CompiledConverter) obj;
+    return this.source.equals(that.source);
+  }
+
+  @Override
+  public int hashCode() {
+    return source.hashCode();
+  }
+
+  public String getValue() {
+    return toString();
+  }
+}
@@ -85,7 +85,8 @@ public final class ExpConverter extends AbstractConverter implements ValueSuppli
 
   @Override
   public AbstractConverter inverse() {
-    return new LogConverter(base);
+    AbstractConverter inverse = getCachedInverse();
+    return inverse != null ? inverse : linkInverse(new LogConverter(base));
   }
 
   @Override
@@ -99,6 +100,8 @@ public final class ExpConverter extends AbstractConverter implements ValueSuppli
 
   @Override
   public boolean equals(Object obj) {
+    if (this == obj)
+      return true;
     if (!(obj instanceof ExpConverter))
       return false;
     ExpConverter that = (ExpConverter) obj;
@@ -116,6 +119,24 @@ public final class ExpConverter extends AbstractConverter implements ValueSuppli
     return MathUtil.exp(logOfBase * amount);
   }
 
+  @Override
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    final double logOfBase = this.logOfBase;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = MathUtil.exp(logOfBase * src[srcOff + i]);
+    }
+  }
+
+  @Override
+  public void convert(float[] src, int srcOff, float[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    final double logOfBase = this.logOfBase;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = (float) MathUtil.exp(logOfBase * src[srcOff + i]);
+    }
+  }
+
   // @Override
   // public BigDecimal convert(BigDecimal value, MathContext ctx) throws
   // ArithmeticException {
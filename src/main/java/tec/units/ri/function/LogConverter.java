@@ -82,7 +82,8 @@ public final class LogConverter extends AbstractConverter implements ValueSuppli
 
   @Override
   public AbstractConverter inverse() {
-    return new ExpConverter(base);
+    AbstractConverter inverse = getCachedInverse();
+    return inverse != null ? inverse : linkInverse(new ExpConverter(base));
   }
 
   @Override
@@ -96,6 +97,8 @@ public final class LogConverter extends AbstractConverter implements ValueSuppli
 
   @Override
   public boolean equals(Object obj) {
+    if (this == obj)
+      return true;
     if (!(obj instanceof LogConverter))
       return false;
     LogConverter that = (LogConverter) obj;
@@ -113,6 +116,24 @@ public final class LogConverter extends AbstractConverter implements ValueSuppli
     return MathUtil.log(amount) / logOfBase;
   }
 
+  @Override
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    final double logOfBase = this.logOfBase;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = MathUtil.log(src[srcOff + i]) / logOfBase;
+    }
+  }
+
+  @Override
+  public void convert(float[] src, int srcOff, float[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    final double logOfBase = this.logOfBase;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = (float) (MathUtil.log(src[srcOff + i]) / logOfBase);
+    }
+  }
+
   // @Override
   // public BigDecimal convert(BigDecimal value, MathContext ctx) throws
   // ArithmeticException {
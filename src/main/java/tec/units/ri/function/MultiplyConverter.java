@@ -32,6 +32,9 @@ package tec.units.ri.function;
 import javax.measure.UnitConverter;
 
 import tec.units.ri.AbstractConverter;
+import tec.units.ri.ConverterInterner;
+import tec.units.ri.internal.BulkConversion;
+import tec.units.ri.spi.BulkConversionProvider;
 import tec.uom.lib.common.function.ValueSupplier;
 
 /**
@@ -84,12 +87,13 @@ public final class MultiplyConverter extends AbstractConverter implements ValueS
     if (!(converter instanceof MultiplyConverter))
       return super.concatenate(converter);
     double newfactor = factor * ((MultiplyConverter) converter).factor;
-    return newfactor == 1.0 ? IDENTITY : new MultiplyConverter(newfactor);
+    return newfactor == 1.0 ? IDENTITY : ConverterInterner.intern(new MultiplyConverter(newfactor));
   }
 
   @Override
   public MultiplyConverter inverse() {
-    return new MultiplyConverter(1.0 / factor);
+    MultiplyConverter inverse = (MultiplyConverter) getCachedInverse();
+    return inverse != null ? inverse : linkInverse(new MultiplyConverter(1.0 / factor));
   }
 
   @Override
@@ -97,6 +101,34 @@ public final class MultiplyConverter extends AbstractConverter implements ValueS
     return value * factor;
   }
 
+  @Override
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    final BulkConversionProvider provider = BulkConversion.getProvider();
+    if (provider != null) {
+      provider.convert(factor, 0.0, src, srcOff, dst, dstOff, len);
+      return;
+    }
+    final double factor = this.factor;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = src[srcOff + i] * factor;
+    }
+  }
+
+  @Override
+  public void convert(float[] src, int srcOff, float[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    final BulkConversionProvider provider = BulkConversion.getProvider();
+    if (provider != null) {
+      provider.convert(factor, 0.0, src, srcOff, dst, dstOff, len);
+      return;
+    }
+    final double factor = this.factor;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = (float) (src[srcOff + i] * factor);
+    }
+  }
+
   @Override
   public final String toString() {
     return "MultiplyConverter(" + factor + ")";
@@ -104,10 +136,12 @@ public final class MultiplyConverter extends AbstractConverter implements ValueS
 
   @Override
   public boolean equals(Object obj) {
+    if (this == obj)
+      return true;
     if (!(obj instanceof MultiplyConverter))
       return false;
     MultiplyConverter that = (MultiplyConverter) obj;
-    return this.factor == that.factor;
+    return Double.compare(this.factor, that.factor) == 0; // Consistent with hashCode().
   }
 
   @Override
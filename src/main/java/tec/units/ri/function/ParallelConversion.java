@@ -0,0 +1,414 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.function;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import javax.measure.UnitConverter;
+
+import tec.units.ri.AbstractConverter;
+
+/**
+ * <p>
+ * This class converts very large arrays or buffers in parallel. The values are split into chunks of at most {@link #getThreshold() threshold}
+ * elements which are converted with the same {@link UnitConverter} by fork/join tasks, using the bulk methods of {@link AbstractConverter} where
+ * available. Inputs not larger than the threshold are converted in the calling thread. For example:[code]
+ * ParallelConversion.getInstance().convert(CELSIUS.getConverterTo(KELVIN), readings); [/code]
+ * </p>
+ *
+ * <p>
+ * Instances of this class are immutable and can be shared; the converter used must be thread-safe (which all converters of this library are).
+ * </p>
+ *
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+public final class ParallelConversion {
+
+  /**
+   * The default number of values below which no further splitting takes place.
+   */
+  public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+  /**
+   * Holds the default instance, using a pool with one thread per available processor (created on first use).
+   */
+  private static ParallelConversion defaultInstance;
+
+  /**
+   * Holds the pool executing the conversion tasks.
+   */
+  private final ForkJoinPool pool;
+
+  /**
+   * Holds the maximum number of values converted by a single task.
+   */
+  private final int threshold;
+
+  /**
+   * Creates a parallel conversion executing its tasks in the specified pool.
+   *
+   * @param pool
+   *          the fork/join pool.
+   * @param threshold
+   *          the maximum number of values converted by a single task.
+   * @throws IllegalArgumentException
+   *           if the pool is <code>null</code> or the threshold is not positive.
+   */
+  public ParallelConversion(ForkJoinPool pool, int threshold) {
+    if (pool == null)
+      throw new IllegalArgumentException("Pool cannot be null");
+    if (threshold <= 0)
+      throw new IllegalArgumentException("Threshold must be positive");
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Creates a parallel conversion with the specified threshold, sharing the pool of the {@link #getInstance() default instance}.
+   *
+   * @param threshold
+   *          the maximum number of values converted by a single task.
+   * @throws IllegalArgumentException
+   *           if the threshold is not positive.
+   */
+  public ParallelConversion(int threshold) {
+    this(getInstance().pool, threshold);
+  }
+
+  /**
+   * Returns the default parallel conversion, with {@link #DEFAULT_THRESHOLD} and one thread per available processor.
+   *
+   * @return the default instance.
+   */
+  public static synchronized ParallelConversion getInstance() {
+    if (defaultInstance == null)
+      defaultInstance = new ParallelConversion(new ForkJoinPool(), DEFAULT_THRESHOLD);
+    return defaultInstance;
+  }
+
+  /**
+   * Returns the pool executing the conversion tasks.
+   *
+   * @return the fork/join pool.
+   */
+  public ForkJoinPool getPool() {
+    return pool;
+  }
+
+  /**
+   * Returns the maximum number of values converted by a single task.
+   *
+   * @return the parallelism threshold.
+   */
+  public int getThreshold() {
+    return threshold;
+  }
+
+  /**
+   * Converts <code>len</code> values of the source array starting at <code>srcOff</code> and stores the results in the destination array starting at
+   * <code>dstOff</code>. Source and destination may be the same array, in which case the ranges must either coincide or not overlap.
+   *
+   * @param converter
+   *          the converter to apply.
+   * @param src
+   *          the values to convert.
+   * @param srcOff
+   *          the index of the first value to convert.
+   * @param dst
+   *          the array receiving the converted values.
+   * @param dstOff
+   *          the index where the first converted value is stored.
+   * @param len
+   *          the number of values to convert.
+   * @throws IndexOutOfBoundsException
+   *           if either range is out of the bounds of its array.
+   */
+  public void convert(UnitConverter converter, double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    DoubleArrayTask task = new DoubleArrayTask(converter, src, srcOff, dst, dstOff, len, threshold);
+    if (len <= threshold)
+      task.compute();
+    else
+      pool.invoke(task);
+  }
+
+  /**
+   * Converts all the specified values in place.
+   *
+   * @param converter
+   *          the converter to apply.
+   * @param values
+   *          the values to convert.
+   */
+  public void convert(UnitConverter converter, double[] values) {
+    convert(converter, values, 0, values, 0, values.length);
+  }
+
+  /**
+   * Converts <code>len</code> values of the source array starting at <code>srcOff</code> and stores the results in the destination array starting at
+   * <code>dstOff</code>. Conversions are performed in <code>double</code> precision.
+   *
+   * @param converter
+   *          the converter to apply.
+   * @param src
+   *          the values to convert.
+   * @param srcOff
+   *          the index of the first value to convert.
+   * @param dst
+   *          the array receiving the converted values.
+   * @param dstOff
+   *          the index where the first converted value is stored.
+   * @param len
+   *          the number of values to convert.
+   * @throws IndexOutOfBoundsException
+   *           if either range is out of the bounds of its array.
+   */
+  public void convert(UnitConverter converter, float[] src, int srcOff, float[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    FloatArrayTask task = new FloatArrayTask(converter, src, srcOff, dst, dstOff, len, threshold);
+    if (len <= threshold)
+      task.compute();
+    else
+      pool.invoke(task);
+  }
+
+  /**
+   * Converts all the specified values in place.
+   *
+   * @param converter
+   *          the converter to apply.
+   * @param values
+   *          the values to convert.
+   */
+  public void convert(UnitConverter converter, float[] values) {
+    convert(converter, values, 0, values, 0, values.length);
+  }
+
+  /**
+   * Converts the remaining values of the source buffer and stores the results into the destination buffer, starting at their current positions. The
+   * position of both buffers is advanced by the number of values converted (as for {@link DoubleBuffer#put(DoubleBuffer)}). Source and destination
+   * may be the same buffer.
+   *
+   * @param converter
+   *          the converter to apply.
+   * @param src
+   *          the values to convert.
+   * @param dst
+   *          the buffer receiving the converted values.
+   * @throws BufferOverflowException
+   *           if there is insufficient space in the destination buffer.
+   * @throws java.nio.ReadOnlyBufferException
+   *           if the destination buffer is read-only.
+   */
+  public void convert(UnitConverter converter, DoubleBuffer src, DoubleBuffer dst) {
+    int len = src.remaining();
+    if (dst.remaining() < len)
+      throw new BufferOverflowException();
+    int srcPos = src.position();
+    int dstPos = dst.position();
+    if (src.hasArray() && dst.hasArray()) {
+      convert(converter, src.array(), src.arrayOffset() + srcPos, dst.array(), dst.arrayOffset() + dstPos, len);
+    } else {
+      DoubleBufferTask task = new DoubleBufferTask(converter, src, srcPos, dst, dstPos, len, threshold);
+      if (len <= threshold)
+        task.compute();
+      else
+        pool.invoke(task);
+    }
+    src.position(srcPos + len);
+    dst.position(dstPos + len);
+  }
+
+  /**
+   * Converts the <code>double</code> values held in the remaining bytes of the source buffer (e.g. a memory-mapped file) and stores the results into
+   * the destination buffer, using the byte order of each buffer. The position of both buffers is advanced by the number of bytes converted; trailing
+   * bytes not forming a whole <code>double</code> are not consumed.
+   *
+   * @param converter
+   *          the converter to apply.
+   * @param src
+   *          the bytes holding the values to convert.
+   * @param dst
+   *          the buffer receiving the converted values.
+   * @throws BufferOverflowException
+   *           if there is insufficient space in the destination buffer.
+   * @throws java.nio.ReadOnlyBufferException
+   *           if the destination buffer is read-only.
+   * @see AbstractConverter#convert(ByteBuffer, ByteBuffer)
+   */
+  public void convert(UnitConverter converter, ByteBuffer src, ByteBuffer dst) {
+    int len = src.remaining() >> 3;
+    if (dst.remaining() >> 3 < len)
+      throw new BufferOverflowException();
+    int srcPos = src.position();
+    int dstPos = dst.position();
+    convert(converter, src.asDoubleBuffer(), dst.asDoubleBuffer());
+    src.position(srcPos + (len << 3));
+    dst.position(dstPos + (len << 3));
+  }
+
+  @Override
+  public String toString() {
+    return "ParallelConversion(" + pool.getParallelism() + "," + threshold + ")";
+  }
+
+  private static void checkRange(int srcLength, int srcOff, int dstLength, int dstOff, int len) {
+    if ((len < 0) || (srcOff < 0) || (dstOff < 0) || (srcOff > srcLength - len) || (dstOff > dstLength - len))
+      throw new IndexOutOfBoundsException("Invalid range (srcOff=" + srcOff + ", dstOff=" + dstOff + ", len=" + len + ")");
+  }
+
+  /**
+   * Converts a range of a <code>double[]</code> array, splitting it in halves while larger than the threshold.
+   */
+  private static final class DoubleArrayTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final UnitConverter converter;
+    private final double[] src;
+    private final int srcOff;
+    private final double[] dst;
+    private final int dstOff;
+    private final int len;
+    private final int threshold;
+
+    DoubleArrayTask(UnitConverter converter, double[] src, int srcOff, double[] dst, int dstOff, int len, int threshold) {
+      this.converter = converter;
+      this.src = src;
+      this.srcOff = srcOff;
+      this.dst = dst;
+      this.dstOff = dstOff;
+      this.len = len;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (len > threshold) {
+        int half = len >>> 1;
+        invokeAll(new DoubleArrayTask(converter, src, srcOff, dst, dstOff, half, threshold), new DoubleArrayTask(converter, src, srcOff + half, dst,
+            dstOff + half, len - half, threshold));
+      } else if (converter instanceof AbstractConverter) {
+        ((AbstractConverter) converter).convert(src, srcOff, dst, dstOff, len);
+      } else {
+        for (int i = 0; i < len; i++) {
+          dst[dstOff + i] = converter.convert(src[srcOff + i]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Converts a range of a <code>float[]</code> array, splitting it in halves while larger than the threshold.
+   */
+  private static final class FloatArrayTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final UnitConverter converter;
+    private final float[] src;
+    private final int srcOff;
+    private final float[] dst;
+    private final int dstOff;
+    private final int len;
+    private final int threshold;
+
+    FloatArrayTask(UnitConverter converter, float[] src, int srcOff, float[] dst, int dstOff, int len, int threshold) {
+      this.converter = converter;
+      this.src = src;
+      this.srcOff = srcOff;
+      this.dst = dst;
+      this.dstOff = dstOff;
+      this.len = len;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (len > threshold) {
+        int half = len >>> 1;
+        invokeAll(new FloatArrayTask(converter, src, srcOff, dst, dstOff, half, threshold), new FloatArrayTask(converter, src, srcOff + half, dst,
+            dstOff + half, len - half, threshold));
+      } else if (converter instanceof AbstractConverter) {
+        ((AbstractConverter) converter).convert(src, srcOff, dst, dstOff, len);
+      } else {
+        for (int i = 0; i < len; i++) {
+          dst[dstOff + i] = (float) converter.convert((double) src[srcOff + i]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Converts a range of a direct (or read-only) {@link DoubleBuffer} using absolute get and put operations, splitting it in halves while larger than
+   * the threshold.
+   */
+  private static final class DoubleBufferTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final UnitConverter converter;
+    private final DoubleBuffer src;
+    private final int srcPos;
+    private final DoubleBuffer dst;
+    private final int dstPos;
+    private final int len;
+    private final int threshold;
+
+    DoubleBufferTask(UnitConverter converter, DoubleBuffer src, int srcPos, DoubleBuffer dst, int dstPos, int len, int threshold) {
+      this.converter = converter;
+      this.src = src;
+      this.srcPos = srcPos;
+      this.dst = dst;
+      this.dstPos = dstPos;
+      this.len = len;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (len > threshold) {
+        int half = len >>> 1;
+        invokeAll(new DoubleBufferTask(converter, src, srcPos, dst, dstPos, half, threshold), new DoubleBufferTask(converter, src, srcPos + half, dst,
+            dstPos + half, len - half, threshold));
+      } else {
+        for (int i = 0; i < len; i++) {
+          dst.put(dstPos + i, converter.convert(src.get(srcPos + i)));
+        }
+      }
+    }
+  }
+}
@@ -64,6 +64,22 @@ final class PiDivisorConverter extends AbstractConverter implements ValueSupplie
     return value / PI;
   }
 
+  @Override
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = src[srcOff + i] / PI;
+    }
+  }
+
+  @Override
+  public void convert(float[] src, int srcOff, float[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = (float) (src[srcOff + i] / PI);
+    }
+  }
+
   // @Override
   // public BigDecimal convert(BigDecimal value, MathContext ctx) throws
   // ArithmeticException {
@@ -76,7 +92,8 @@ final class PiDivisorConverter extends AbstractConverter implements ValueSupplie
 
   @Override
   public AbstractConverter inverse() {
-    return new PiMultiplierConverter();
+    AbstractConverter inverse = getCachedInverse();
+    return inverse != null ? inverse : linkInverse(new PiMultiplierConverter());
   }
 
   @Override
@@ -91,7 +108,7 @@ final class PiDivisorConverter extends AbstractConverter implements ValueSupplie
 
   @Override
   public int hashCode() {
-    return 0;
+    return -1;
   }
 
   public boolean isLinear() {
@@ -56,6 +56,22 @@ public final class PiMultiplierConverter extends AbstractConverter implements Va
     return value * PI;
   }
 
+  @Override
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = src[srcOff + i] * PI;
+    }
+  }
+
+  @Override
+  public void convert(float[] src, int srcOff, float[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = (float) (src[srcOff + i] * PI);
+    }
+  }
+
   // @Override
   // public BigDecimal convert(BigDecimal value, MathContext ctx)
   // throws ArithmeticException {
@@ -68,7 +84,8 @@ public final class PiMultiplierConverter extends AbstractConverter implements Va
   // }
   @Override
   public AbstractConverter inverse() {
-    return new PiDivisorConverter();
+    AbstractConverter inverse = getCachedInverse();
+    return inverse != null ? inverse : linkInverse(new PiDivisorConverter());
   }
 
   @Override
@@ -83,7 +100,7 @@ public final class PiMultiplierConverter extends AbstractConverter implements Va
 
   @Override
   public int hashCode() {
-    return 0;
+    return 1;
   }
 
   public boolean isLinear() {
@@ -30,22 +30,33 @@
 package tec.units.ri.function;
 
 import static tec.units.ri.internal.MathUtil.gcd;
-import static tec.units.ri.internal.MathUtil.negateExact;
+import static tec.units.ri.internal.MathUtil.multiplyExact;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
 
 import javax.measure.UnitConverter;
 
 import tec.units.ri.AbstractConverter;
+import tec.units.ri.ConverterInterner;
+import tec.units.ri.internal.BulkConversion;
+import tec.units.ri.spi.BulkConversionProvider;
 import tec.uom.lib.common.function.ValueSupplier;
 
 /**
  * <p>
- * This class represents a converter multiplying numeric values by an exact scaling factor (represented as the quotient of two <code>double</code>
- * numbers).
+ * This class represents a converter multiplying numeric values by an exact scaling factor (represented as the quotient of two integer numbers).
+ * </p>
+ *
+ * <p>
+ * The dividend and divisor are held as <code>long</code> values; they are promoted to {@link BigInteger} when a concatenation would overflow (e.g.
+ * <code>YOTTA</code> or <code>YOCTO</code> prefixes), so that concatenations of rational converters are always exact.
  * </p>
  *
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
- * @version 1.0, October 6, 2016
+ * @version 1.1, October 17, 2026
  * @since 1.0
  */
 public final class RationalConverter extends AbstractConverter implements ValueSupplier<Double> {
@@ -56,14 +67,29 @@ public final class RationalConverter extends AbstractConverter implements ValueS
   // private static final long serialVersionUID = 1L;
 
   /**
-   * Holds the converter dividend.
+   * Holds the converter dividend (<code>0</code> if promoted to {@link #bigDividend}).
+   */
+  private final long dividend;
+
+  /**
+   * Holds the converter divisor, always positive (<code>0</code> if promoted to {@link #bigDivisor}).
+   */
+  private final long divisor;
+
+  /**
+   * Holds the converter dividend if dividend or divisor does not fit in a <code>long</code>, <code>null</code> otherwise.
+   */
+  private final BigInteger bigDividend;
+
+  /**
+   * Holds the converter divisor if dividend or divisor does not fit in a <code>long</code>, <code>null</code> otherwise.
    */
-  private final double dividend;
+  private final BigInteger bigDivisor;
 
   /**
-   * Holds the converter divisor (always positive).
+   * Holds the scaling factor as <code>double</code> (optimization).
    */
-  private final double divisor;
+  private final double factor;
 
   /**
    * Constructor
@@ -77,13 +103,69 @@ public final class RationalConverter extends AbstractConverter implements ValueS
    * @throws IllegalArgumentException
    *           if <code>dividend == divisor</code>
    */
-  public RationalConverter(double dividend, double divisor) {
+  public RationalConverter(long dividend, long divisor) {
     if (divisor <= 0)
       throw new IllegalArgumentException("Negative or zero divisor");
     if (dividend == divisor)
       throw new IllegalArgumentException("Would result in identity converter");
     this.dividend = dividend;
     this.divisor = divisor;
+    this.bigDividend = null;
+    this.bigDivisor = null;
+    this.factor = (double) dividend / (double) divisor;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param dividend
+   *          the dividend.
+   * @param divisor
+   *          the positive divisor.
+   * @throws IllegalArgumentException
+   *           if <code>divisor &lt;= 0</code>
+   * @throws IllegalArgumentException
+   *           if <code>dividend == divisor</code>
+   * @since 1.0.4
+   */
+  public RationalConverter(BigInteger dividend, BigInteger divisor) {
+    if (divisor.signum() <= 0)
+      throw new IllegalArgumentException("Negative or zero divisor");
+    if (dividend.equals(divisor))
+      throw new IllegalArgumentException("Would result in identity converter");
+    if ((dividend.bitLength() < 64) && (divisor.bitLength() < 64)) {
+      this.dividend = dividend.longValue();
+      this.divisor = divisor.longValue();
+      this.bigDividend = null;
+      this.bigDivisor = null;
+      this.factor = (double) this.dividend / (double) this.divisor;
+    } else {
+      this.dividend = 0;
+      this.divisor = 0;
+      this.bigDividend = dividend;
+      this.bigDivisor = divisor;
+      this.factor = new BigDecimal(dividend).divide(new BigDecimal(divisor), MathContext.DECIMAL128).doubleValue();
+    }
+  }
+
+  /**
+   * Constructor. The <code>double</code> values are converted exactly to a quotient of integers.
+   *
+   * @param dividend
+   *          the dividend.
+   * @param divisor
+   *          the positive divisor.
+   * @throws IllegalArgumentException
+   *           if <code>divisor &lt;= 0</code>
+   * @throws IllegalArgumentException
+   *           if <code>dividend == divisor</code>
+   */
+  public RationalConverter(double dividend, double divisor) {
+    this(toExact(dividend, divisor));
+  }
+
+  private RationalConverter(BigInteger[] quotient) {
+    this(quotient[0], quotient[1]);
   }
 
   /**
@@ -99,7 +181,24 @@ public final class RationalConverter extends AbstractConverter implements ValueS
    *           if <code>dividend == divisor</code>
    */
   public static final RationalConverter of(long dividend, long divisor) {
-    return new RationalConverter((double) dividend, (double) divisor);
+    return new RationalConverter(dividend, divisor);
+  }
+
+  /**
+   * Convenience method equivalent to <code>new RationalConverter(dividend, divisor)</code>
+   *
+   * @param dividend
+   *          the dividend.
+   * @param divisor
+   *          the positive divisor.
+   * @throws IllegalArgumentException
+   *           if <code>divisor &lt;= 0</code>
+   * @throws IllegalArgumentException
+   *           if <code>dividend == divisor</code>
+   * @since 1.0.4
+   */
+  public static final RationalConverter of(BigInteger dividend, BigInteger divisor) {
+    return new RationalConverter(dividend, divisor);
   }
 
   /**
@@ -124,7 +223,7 @@ public final class RationalConverter extends AbstractConverter implements ValueS
    * @return this converter dividend.
    */
   public double getDividend() {
-    return dividend;
+    return (bigDividend != null) ? bigDividend.doubleValue() : dividend;
   }
 
   /**
@@ -133,12 +232,89 @@ public final class RationalConverter extends AbstractConverter implements ValueS
    * @return this converter divisor.
    */
   public double getDivisor() {
-    return divisor;
+    return (bigDivisor != null) ? bigDivisor.doubleValue() : divisor;
+  }
+
+  /**
+   * Returns the exact integer dividend for this rational converter.
+   *
+   * @return this converter dividend.
+   * @since 1.0.4
+   */
+  public BigInteger getExactDividend() {
+    return (bigDividend != null) ? bigDividend : BigInteger.valueOf(dividend);
+  }
+
+  /**
+   * Returns the exact integer (positive) divisor for this rational converter.
+   *
+   * @return this converter divisor.
+   * @since 1.0.4
+   */
+  public BigInteger getExactDivisor() {
+    return (bigDivisor != null) ? bigDivisor : BigInteger.valueOf(divisor);
   }
 
   @Override
   public double convert(double value) {
-    return value * ((double) dividend / (double) divisor);
+    return value * factor;
+  }
+
+  /**
+   * Converts a <code>long</code> value using integer arithmetic only. The result is exact when it is integral; otherwise it is truncated toward zero
+   * (like a <code>(long)</code> cast of the <code>double</code> conversion).
+   *
+   * @param value
+   *          the value to convert.
+   * @return <code>value * dividend / divisor</code>
+   * @throws ArithmeticException
+   *           if the result does not fit in a <code>long</code>.
+   * @since 1.0.4
+   */
+  public long convert(long value) {
+    if (bigDividend == null) {
+      if (divisor == 1)
+        return multiplyExact(value, dividend);
+      if (value % divisor == 0)
+        return multiplyExact(value / divisor, dividend);
+      try {
+        return multiplyExact(value, dividend) / divisor;
+      } catch (ArithmeticException e) {
+        // Intermediate product overflows, falls back to BigInteger.
+      }
+    }
+    BigInteger result = BigInteger.valueOf(value).multiply(getExactDividend()).divide(getExactDivisor());
+    if (result.bitLength() >= 64)
+      throw new ArithmeticException("Overflow (" + result + ")");
+    return result.longValue();
+  }
+
+  @Override
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    final BulkConversionProvider provider = BulkConversion.getProvider();
+    if (provider != null) {
+      provider.convert(factor, 0.0, src, srcOff, dst, dstOff, len);
+      return;
+    }
+    final double factor = this.factor;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = src[srcOff + i] * factor;
+    }
+  }
+
+  @Override
+  public void convert(float[] src, int srcOff, float[] dst, int dstOff, int len) {
+    checkRange(src.length, srcOff, dst.length, dstOff, len);
+    final BulkConversionProvider provider = BulkConversion.getProvider();
+    if (provider != null) {
+      provider.convert(factor, 0.0, src, srcOff, dst, dstOff, len);
+      return;
+    }
+    final double factor = this.factor;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = (float) (src[srcOff + i] * factor);
+    }
   }
 
   @Override
@@ -146,36 +322,65 @@ public final class RationalConverter extends AbstractConverter implements ValueS
     if (!(converter instanceof RationalConverter))
       return super.concatenate(converter);
     RationalConverter that = (RationalConverter) converter;
-    double newDividend = this.getDividend() * that.getDividend();
-    double newDivisor = this.getDivisor() * that.getDivisor();
-    double gcd = gcd(newDividend, newDivisor);
-    newDividend = newDividend / gcd; // TODO clarify if this works with long
-    newDivisor = newDivisor / gcd;
-    return (newDividend == 1 && newDivisor == 1) ? IDENTITY : new RationalConverter(newDividend, newDivisor);
+    if ((this.bigDividend == null) && (that.bigDividend == null)) {
+      long gcd1 = gcd(this.dividend, that.divisor);
+      long gcd2 = gcd(that.dividend, this.divisor);
+      try {
+        long newDividend = multiplyExact(this.dividend / gcd1, that.dividend / gcd2);
+        long newDivisor = multiplyExact(this.divisor / gcd2, that.divisor / gcd1);
+        long gcd = gcd(newDividend, newDivisor);
+        newDividend /= gcd;
+        newDivisor /= gcd;
+        return (newDividend == newDivisor) ? IDENTITY : ConverterInterner.intern(new RationalConverter(newDividend, newDivisor));
+      } catch (ArithmeticException e) {
+        // Overflow, promotes to BigInteger.
+      }
+    }
+    BigInteger newDividend = this.getExactDividend().multiply(that.getExactDividend());
+    BigInteger newDivisor = this.getExactDivisor().multiply(that.getExactDivisor());
+    BigInteger gcd = newDividend.gcd(newDivisor);
+    newDividend = newDividend.divide(gcd);
+    newDivisor = newDivisor.divide(gcd);
+    return newDividend.equals(newDivisor) ? IDENTITY : ConverterInterner.intern(new RationalConverter(newDividend, newDivisor));
   }
 
   @Override
   public RationalConverter inverse() {
-    return Math.signum(dividend) == -1 ? new RationalConverter(negateExact(getDivisor()), negateExact(getDividend())) : new RationalConverter(
-        getDivisor(), getDividend());
+    RationalConverter inverse = (RationalConverter) getCachedInverse();
+    return inverse != null ? inverse : linkInverse(computeInverse());
+  }
+
+  private RationalConverter computeInverse() {
+    if ((bigDividend == null) && (dividend != Long.MIN_VALUE))
+      return dividend < 0 ? new RationalConverter(-divisor, -dividend) : new RationalConverter(divisor, dividend);
+    BigInteger exactDividend = getExactDividend();
+    return exactDividend.signum() < 0 ? new RationalConverter(getExactDivisor().negate(), exactDividend.negate()) : new RationalConverter(
+        getExactDivisor(), exactDividend);
   }
 
   @Override
   public final String toString() {
-    return "RationalConverter(" + dividend + "," + divisor + ")";
+    return "RationalConverter(" + getExactDividend() + "," + getExactDivisor() + ")";
   }
 
   @Override
   public boolean equals(Object obj) {
+    if (this == obj)
+      return true;
     if (!(obj instanceof RationalConverter))
       return false;
     RationalConverter that = (RationalConverter) obj;
+    if ((this.bigDividend != null) || (that.bigDividend != null))
+      return this.getExactDividend().equals(that.getExactDividend()) && this.getExactDivisor().equals(that.getExactDivisor());
     return (this.dividend == that.dividend && this.divisor == that.divisor);
   }
 
   @Override
   public int hashCode() {
-    return Double.valueOf(dividend).hashCode() + Double.valueOf(dividend).hashCode();
+    if (bigDividend != null)
+      return 31 * bigDividend.hashCode() + bigDivisor.hashCode();
+    long bits = 31 * dividend + divisor;
+    return (int) (bits ^ (bits >>> 32));
   }
 
   public boolean isLinear() {
@@ -183,10 +388,25 @@ public final class RationalConverter extends AbstractConverter implements ValueS
   }
 
   public double getAsDouble() {
-    return (double) dividend / (double) divisor;
+    return factor;
   }
 
   public Double getValue() {
     return Double.valueOf(getAsDouble());
   }
+
+  /**
+   * Returns the exact quotient of integers (in lowest terms) equivalent to <code>dividend / divisor</code>.
+   */
+  private static BigInteger[] toExact(double dividend, double divisor) {
+    if (divisor <= 0)
+      throw new IllegalArgumentException("Negative or zero divisor");
+    BigDecimal exactDividend = new BigDecimal(dividend);
+    BigDecimal exactDivisor = new BigDecimal(divisor);
+    int scale = Math.max(exactDividend.scale(), exactDivisor.scale());
+    BigInteger newDividend = exactDividend.setScale(scale).unscaledValue();
+    BigInteger newDivisor = exactDivisor.setScale(scale).unscaledValue();
+    BigInteger gcd = newDividend.gcd(newDivisor);
+    return new BigInteger[] { newDividend.divide(gcd), newDivisor.divide(gcd) };
+  }
 }
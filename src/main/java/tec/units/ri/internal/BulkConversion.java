@@ -0,0 +1,104 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.internal;
+
+import static java.util.logging.Level.WARNING;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Logger;
+
+import tec.units.ri.spi.BulkConversionProvider;
+
+/**
+ * Holds the {@link BulkConversionProvider} used for bulk conversions, if any.
+ *
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+public final class BulkConversion {
+
+  /**
+   * Holds the provider in use: the installed one with the highest priority unless replaced with {@link #setProvider(BulkConversionProvider)}.
+   */
+  private static volatile BulkConversionProvider provider = load();
+
+  private BulkConversion() {
+  }
+
+  /**
+   * Returns the bulk conversion provider to use.
+   *
+   * @return the provider with the highest priority or <code>null</code> if none is installed (scalar loops should be used).
+   */
+  public static BulkConversionProvider getProvider() {
+    return provider;
+  }
+
+  /**
+   * Replaces the bulk conversion provider to use (e.g. for testing).
+   *
+   * @param newProvider
+   *          the provider to use or <code>null</code> to use scalar loops.
+   * @return the previous provider.
+   */
+  public static BulkConversionProvider setProvider(BulkConversionProvider newProvider) {
+    BulkConversionProvider previous = provider;
+    provider = newProvider;
+    return previous;
+  }
+
+  /**
+   * Returns the installed provider with the highest priority; providers failing to load (and invalid provider-configuration files) are logged and
+   * ignored.
+   */
+  static BulkConversionProvider load() {
+    BulkConversionProvider selected = null;
+    try {
+      Iterator<BulkConversionProvider> it = ServiceLoader.load(BulkConversionProvider.class).iterator();
+      while (it.hasNext()) {
+        try {
+          BulkConversionProvider provider = it.next();
+          if ((selected == null) || (provider.getPriority() > selected.getPriority()))
+            selected = provider;
+        } catch (Error e) { // e.g. vector module not available on this platform
+          Logger.getLogger(BulkConversion.class.getName()).log(WARNING, "Error loading bulk conversion provider", e);
+        }
+      }
+    } catch (ServiceConfigurationError e) { // e.g. invalid provider-configuration file, thrown by hasNext()
+      Logger.getLogger(BulkConversion.class.getName()).log(WARNING, "Error loading bulk conversion providers", e);
+    } catch (Exception e) {
+      Logger.getLogger(BulkConversion.class.getName()).log(WARNING, "Error loading bulk conversion providers", e);
+    }
+    return selected;
+  }
+}
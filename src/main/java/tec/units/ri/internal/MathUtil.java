@@ -1133,6 +1133,50 @@ public abstract class MathUtil {
       return a;
     return gcd(b, a % b);
   }
+
+  /**
+   * Returns the greatest common divisor of the absolute values of the arguments (Euclid's algorithm).
+   *
+   * @param a
+   *          the first number.
+   * @param b
+   *          the second number.
+   * @return the greatest common divisor (non-negative unless one argument is {@link Long#MIN_VALUE}).
+   */
+  public static long gcd(long a, long b) {
+    a = Math.abs(a);
+    b = Math.abs(b);
+    while (b != 0) {
+      long t = a % b;
+      a = b;
+      b = t;
+    }
+    return (a < 0) ? -a : a;
+  }
+
+  /**
+   * Returns the product of the arguments, throwing an exception if the result overflows a {@code long}.
+   *
+   * @param a
+   *          the first value
+   * @param b
+   *          the second value
+   * @return the result
+   * @throws ArithmeticException
+   *           if the result overflows a long
+   */
+  public static long multiplyExact(long a, long b) {
+    long r = a * b;
+    long ax = Math.abs(a);
+    long ay = Math.abs(b);
+    if (((ax | ay) >>> 31 != 0)) {
+      if (((b != 0) && (r / b != a)) || (a == Long.MIN_VALUE && b == -1)) {
+        throw new ArithmeticException("long overflow");
+      }
+    }
+    return r;
+  }
+
   /*
     private static final double powSqrt(double x, double y) {
       int den = 1024, num = (int) (y * den), iterations = 10;
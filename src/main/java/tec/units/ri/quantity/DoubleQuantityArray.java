@@ -0,0 +1,139 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.quantity;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+/**
+ * A column of quantities backed by a <code>double</code> array.
+ * 
+ * @see QuantityArray
+ * @param <Q>
+ *          The type of the quantities.
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+final class DoubleQuantityArray<Q extends Quantity<Q>> extends QuantityArray<Q> {
+
+  final double[] values;
+
+  /**
+   * Creates a column using the specified array (not copied).
+   */
+  DoubleQuantityArray(double[] values, Unit<Q> unit) {
+    super(unit);
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public Double getValue(int index) {
+    return values[index];
+  }
+
+  @Override
+  public double doubleValue(int index) {
+    return values[index];
+  }
+
+  @Override
+  public Quantity<Q> get(int index) {
+    return new DoubleQuantity<Q>(values[index], getUnit());
+  }
+
+  @Override
+  public double[] toDoubleArray() {
+    return values.clone();
+  }
+
+  @Override
+  public QuantityArray<Q> to(Unit<Q> unit) {
+    UnitConverter converter = getUnit().getConverterTo(unit);
+    if (converter.isIdentity())
+      return (unit == getUnit()) ? this : new DoubleQuantityArray<Q>(values, unit);
+    double[] result = new double[values.length];
+    convert(converter, values, result);
+    return new DoubleQuantityArray<Q>(result, unit);
+  }
+
+  @Override
+  public double[] toDoubleArray(Unit<Q> unit) {
+    double[] result = new double[values.length];
+    convert(getUnit().getConverterTo(unit), values, result);
+    return result;
+  }
+
+  @Override
+  public QuantityArray<Q> add(QuantityArray<Q> that) {
+    checkSize(that);
+    double[] result = that.toDoubleArray(getUnit());
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values[i] + result[i];
+    }
+    return new DoubleQuantityArray<Q>(result, getUnit());
+  }
+
+  @Override
+  public QuantityArray<Q> subtract(QuantityArray<Q> that) {
+    checkSize(that);
+    double[] result = that.toDoubleArray(getUnit());
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values[i] - result[i];
+    }
+    return new DoubleQuantityArray<Q>(result, getUnit());
+  }
+
+  @Override
+  public QuantityArray<Q> multiply(Number factor) {
+    double f = factor.doubleValue();
+    double[] result = new double[values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values[i] * f;
+    }
+    return new DoubleQuantityArray<Q>(result, getUnit());
+  }
+
+  @Override
+  public QuantityArray<Q> divide(Number divisor) {
+    double d = divisor.doubleValue();
+    double[] result = new double[values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values[i] / d;
+    }
+    return new DoubleQuantityArray<Q>(result, getUnit());
+  }
+}
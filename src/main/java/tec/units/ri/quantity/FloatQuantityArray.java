@@ -0,0 +1,150 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.quantity;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import tec.units.ri.AbstractConverter;
+
+/**
+ * A column of quantities backed by a <code>float</code> array (half the memory of a <code>double</code> column).
+ * 
+ * @see QuantityArray
+ * @param <Q>
+ *          The type of the quantities.
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+final class FloatQuantityArray<Q extends Quantity<Q>> extends QuantityArray<Q> {
+
+  final float[] values;
+
+  /**
+   * Creates a column using the specified array (not copied).
+   */
+  FloatQuantityArray(float[] values, Unit<Q> unit) {
+    super(unit);
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public Float getValue(int index) {
+    return values[index];
+  }
+
+  @Override
+  public double doubleValue(int index) {
+    return values[index];
+  }
+
+  @Override
+  public Quantity<Q> get(int index) {
+    return new FloatQuantity<Q>(values[index], getUnit());
+  }
+
+  @Override
+  public double[] toDoubleArray() {
+    double[] result = new double[values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values[i];
+    }
+    return result;
+  }
+
+  @Override
+  public QuantityArray<Q> to(Unit<Q> unit) {
+    UnitConverter converter = getUnit().getConverterTo(unit);
+    if (converter.isIdentity())
+      return (unit == getUnit()) ? this : new FloatQuantityArray<Q>(values, unit);
+    float[] result = new float[values.length];
+    if (converter instanceof AbstractConverter) {
+      ((AbstractConverter) converter).convert(values, 0, result, 0, values.length);
+    } else {
+      for (int i = 0; i < result.length; i++) {
+        result[i] = (float) converter.convert(values[i]);
+      }
+    }
+    return new FloatQuantityArray<Q>(result, unit);
+  }
+
+  @Override
+  public QuantityArray<Q> add(QuantityArray<Q> that) {
+    if (!(that instanceof FloatQuantityArray))
+      return super.add(that);
+    checkSize(that);
+    float[] other = ((FloatQuantityArray<Q>) that.to(getUnit())).values;
+    float[] result = new float[values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values[i] + other[i];
+    }
+    return new FloatQuantityArray<Q>(result, getUnit());
+  }
+
+  @Override
+  public QuantityArray<Q> subtract(QuantityArray<Q> that) {
+    if (!(that instanceof FloatQuantityArray))
+      return super.subtract(that);
+    checkSize(that);
+    float[] other = ((FloatQuantityArray<Q>) that.to(getUnit())).values;
+    float[] result = new float[values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values[i] - other[i];
+    }
+    return new FloatQuantityArray<Q>(result, getUnit());
+  }
+
+  @Override
+  public QuantityArray<Q> multiply(Number factor) {
+    float f = factor.floatValue();
+    float[] result = new float[values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values[i] * f;
+    }
+    return new FloatQuantityArray<Q>(result, getUnit());
+  }
+
+  @Override
+  public QuantityArray<Q> divide(Number divisor) {
+    float d = divisor.floatValue();
+    float[] result = new float[values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values[i] / d;
+    }
+    return new FloatQuantityArray<Q>(result, getUnit());
+  }
+}
@@ -33,8 +33,10 @@ import java.util.Objects;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
+import javax.measure.UnitConverter;
 
 import tec.units.ri.AbstractQuantity;
+import tec.units.ri.function.RationalConverter;
 
 /**
  * An amount of quantity, consisting of a long and a Unit. LongQuantity objects are immutable.
@@ -67,7 +69,12 @@ final class LongQuantity<Q extends Quantity<Q>> extends AbstractQuantity<Q> {
 
   @Override
   public long longValue(Unit<Q> unit) {
-    double result = doubleValue(unit);
+    if (super.getUnit().equals(unit))
+      return value;
+    UnitConverter converter = super.getUnit().getConverterTo(unit);
+    if (converter instanceof RationalConverter) // Stays in integer arithmetic.
+      return ((RationalConverter) converter).convert((long) value);
+    double result = converter.convert(value);
     if ((result < Long.MIN_VALUE) || (result > Long.MAX_VALUE)) {
       throw new ArithmeticException("Overflow (" + result + ")");
     }
@@ -0,0 +1,204 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.quantity;
+
+import java.math.BigInteger;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import tec.units.ri.function.RationalConverter;
+import tec.units.ri.internal.MathUtil;
+
+/**
+ * A column of quantities backed by a <code>long</code> array. Integer arithmetic is exact, an {@link ArithmeticException} is thrown on overflow.
+ * 
+ * @see QuantityArray
+ * @param <Q>
+ *          The type of the quantities.
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+final class LongQuantityArray<Q extends Quantity<Q>> extends QuantityArray<Q> {
+
+  final long[] values;
+
+  /**
+   * Creates a column using the specified array (not copied).
+   */
+  LongQuantityArray(long[] values, Unit<Q> unit) {
+    super(unit);
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public Long getValue(int index) {
+    return values[index];
+  }
+
+  @Override
+  public double doubleValue(int index) {
+    return values[index];
+  }
+
+  @Override
+  public Quantity<Q> get(int index) {
+    return new LongQuantity<Q>(values[index], getUnit());
+  }
+
+  @Override
+  public double[] toDoubleArray() {
+    double[] result = new double[values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values[i];
+    }
+    return result;
+  }
+
+  /**
+   * Returns this column stated in the specified unit; the result holds <code>long</code> values if the conversion is an integer scaling,
+   * <code>double</code> values otherwise.
+   */
+  @Override
+  public QuantityArray<Q> to(Unit<Q> unit) {
+    UnitConverter converter = getUnit().getConverterTo(unit);
+    if (converter.isIdentity())
+      return (unit == getUnit()) ? this : new LongQuantityArray<Q>(values, unit);
+    if ((converter instanceof RationalConverter) && BigInteger.ONE.equals(((RationalConverter) converter).getExactDivisor())) {
+      RationalConverter rational = (RationalConverter) converter;
+      long[] result = new long[values.length];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = rational.convert(values[i]);
+      }
+      return new LongQuantityArray<Q>(result, unit);
+    }
+    double[] result = toDoubleArray();
+    convert(converter, result, result);
+    return new DoubleQuantityArray<Q>(result, unit);
+  }
+
+  @Override
+  public QuantityArray<Q> add(QuantityArray<Q> that) {
+    long[] other = longValues(that);
+    if (other == null)
+      return super.add(that);
+    long[] result = new long[values.length];
+    for (int i = 0; i < result.length; i++) {
+      long r = values[i] + other[i];
+      if (((values[i] ^ r) & (other[i] ^ r)) < 0)
+        throw new ArithmeticException("Overflow");
+      result[i] = r;
+    }
+    return new LongQuantityArray<Q>(result, getUnit());
+  }
+
+  @Override
+  public QuantityArray<Q> subtract(QuantityArray<Q> that) {
+    long[] other = longValues(that);
+    if (other == null)
+      return super.subtract(that);
+    long[] result = new long[values.length];
+    for (int i = 0; i < result.length; i++) {
+      long r = values[i] - other[i];
+      if (((values[i] ^ other[i]) & (values[i] ^ r)) < 0)
+        throw new ArithmeticException("Overflow");
+      result[i] = r;
+    }
+    return new LongQuantityArray<Q>(result, getUnit());
+  }
+
+  /**
+   * Returns a <code>long</code> product for integral factors, a <code>double</code> one otherwise.
+   */
+  @Override
+  public QuantityArray<Q> multiply(Number factor) {
+    if (!isIntegral(factor)) {
+      double[] result = toDoubleArray();
+      double f = factor.doubleValue();
+      for (int i = 0; i < result.length; i++) {
+        result[i] *= f;
+      }
+      return new DoubleQuantityArray<Q>(result, getUnit());
+    }
+    long f = factor.longValue();
+    long[] result = new long[values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = MathUtil.multiplyExact(values[i], f);
+    }
+    return new LongQuantityArray<Q>(result, getUnit());
+  }
+
+  @Override
+  public QuantityArray<Q> divide(Number divisor) {
+    double[] result = toDoubleArray();
+    double d = divisor.doubleValue();
+    for (int i = 0; i < result.length; i++) {
+      result[i] /= d;
+    }
+    return new DoubleQuantityArray<Q>(result, getUnit());
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  @Override
+  public QuantityArray<?> multiply(QuantityArray<?> that) {
+    if (!(that instanceof LongQuantityArray))
+      return super.multiply(that);
+    checkSize(that);
+    long[] other = ((LongQuantityArray<?>) that).values;
+    long[] result = new long[values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = MathUtil.multiplyExact(values[i], other[i]);
+    }
+    return new LongQuantityArray(result, getUnit().multiply(that.getUnit()));
+  }
+
+  /**
+   * Returns the values of the specified column stated in this column unit if they can be held exactly as <code>long</code>, <code>null</code>
+   * otherwise.
+   */
+  private long[] longValues(QuantityArray<Q> that) {
+    if (!(that instanceof LongQuantityArray))
+      return null;
+    checkSize(that);
+    QuantityArray<Q> converted = that.to(getUnit());
+    return (converted instanceof LongQuantityArray) ? ((LongQuantityArray<Q>) converted).values : null;
+  }
+
+  private static boolean isIntegral(Number number) {
+    return (number instanceof Long) || (number instanceof Integer) || (number instanceof Short) || (number instanceof Byte);
+  }
+}
@@ -29,6 +29,12 @@
  */
 package tec.units.ri.quantity;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import javax.measure.Quantity;
 import javax.measure.Unit;
 import javax.measure.format.ParserException;
@@ -109,4 +115,127 @@ public final class Quantities {
     }
     return new NumberQuantity<Q>(value, unit);
   }
+
+  /**
+   * Returns the sum of the specified quantities stated in the specified unit. Quantities are grouped by unit, their values are added within each
+   * group (exactly for integer quantities) and each group total is converted only once. Quantities whose unit does not convert linearly nor affinely
+   * to the specified unit (e.g. logarithmic units) are converted one by one.<br>
+   * <code>
+   *     Quantity&lt;Mass&gt; total = Quantities.sum(parcels, KILOGRAM);
+   * </code>
+   *
+   * <p>
+   * The result holds an exact integer value when all the quantities are integers already stated in the specified unit, a <code>double</code>
+   * otherwise.
+   * </p>
+   *
+   * @param quantities
+   *          the quantities to add.
+   * @param unit
+   *          the unit of the sum.
+   * @return the sum (zero if there is no quantity).
+   * @throws NullPointerException
+   *           when quantities or unit were null
+   * @since 1.0.4
+   */
+  public static <Q extends Quantity<Q>> Quantity<Q> sum(Iterable<? extends Quantity<Q>> quantities, Unit<Q> unit) {
+    if (unit == null)
+      throw new NullPointerException();
+    Map<Unit<Q>, UnitGroup<Q>> groups = new HashMap<Unit<Q>, UnitGroup<Q>>();
+    List<UnitGroup<Q>> order = new ArrayList<UnitGroup<Q>>();
+    QuantityAccumulator<Q> total = new QuantityAccumulator<Q>(unit);
+    boolean isExact = true;
+    UnitGroup<Q> last = null;
+    for (Quantity<Q> quantity : quantities) {
+      Unit<Q> u = quantity.getUnit();
+      if (last == null || last.unit != u) {
+        last = groups.get(u);
+        if (last == null) {
+          last = new UnitGroup<Q>(u, total.canConvertSum(u));
+          groups.put(u, last);
+          if (last.isSummable)
+            order.add(last);
+        }
+      }
+      if (last.isSummable) {
+        last.add(quantity);
+      } else { // Converts each value (e.g. logarithmic units).
+        total.add(quantity);
+        isExact = false;
+      }
+    }
+    BigInteger exact = BigInteger.ZERO;
+    for (UnitGroup<Q> group : order) {
+      BigInteger integers = group.integers();
+      if (isExact && group.doubles.getCount() == 0 && total.converterFrom(group.unit).isIdentity()) {
+        exact = exact.add(integers);
+      } else {
+        isExact = false;
+        total.add(integers.doubleValue(), group.integerCount, group.unit);
+        total.add(group.doubles);
+      }
+    }
+    if (!isExact)
+      return total.add(exact.doubleValue(), 1, unit).getQuantity();
+    return (exact.bitLength() < 64) ? new LongQuantity<Q>(exact.longValue(), unit) : new NumberQuantity<Q>(exact, unit);
+  }
+
+  /**
+   * Holds the running sums of the quantities stated in the same unit.
+   */
+  private static final class UnitGroup<Q extends Quantity<Q>> {
+
+    final Unit<Q> unit;
+
+    final QuantityAccumulator<Q> doubles;
+
+    /**
+     * Indicates if the sums of this group can be converted as a whole.
+     */
+    final boolean isSummable;
+
+    long integerSum;
+
+    long integerCount;
+
+    /**
+     * Holds the integer sum overflowing <code>long</code> (if any).
+     */
+    BigInteger carry;
+
+    UnitGroup(Unit<Q> unit, boolean isSummable) {
+      this.unit = unit;
+      this.doubles = new QuantityAccumulator<Q>(unit);
+      this.isSummable = isSummable;
+    }
+
+    void add(Quantity<Q> quantity) {
+      if (quantity instanceof LongQuantity) {
+        add(((LongQuantity<Q>) quantity).value);
+      } else if (quantity instanceof IntegerQuantity) {
+        add(((IntegerQuantity<Q>) quantity).value);
+      } else if (quantity instanceof ShortQuantity) {
+        add(((ShortQuantity<Q>) quantity).value);
+      } else if (quantity instanceof ByteQuantity) {
+        add(((ByteQuantity<Q>) quantity).value);
+      } else {
+        doubles.add(QuantityAccumulator.doubleValueOf(quantity));
+      }
+    }
+
+    void add(long value) {
+      long sum = integerSum + value;
+      if (((integerSum ^ sum) & (value ^ sum)) < 0) { // Overflow.
+        carry = (carry == null) ? BigInteger.valueOf(integerSum) : carry.add(BigInteger.valueOf(integerSum));
+        sum = value;
+      }
+      integerSum = sum;
+      integerCount++;
+    }
+
+    BigInteger integers() {
+      BigInteger sum = BigInteger.valueOf(integerSum);
+      return (carry == null) ? sum : carry.add(sum);
+    }
+  }
 }
@@ -0,0 +1,298 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.quantity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import tec.units.ri.function.AddConverter;
+import tec.units.ri.function.AffineConverter;
+
+/**
+ * <p>
+ * A mutable accumulator summing quantities in a fixed unit. The running sum is compensated (Kahan-Babuška-Neumaier summation), so that adding many
+ * values of different magnitudes does not lose precision; the converter of each incoming unit is cached. No object is created per addition, an
+ * immutable {@link Quantity} is only produced by {@link #getQuantity()}.
+ * </p>
+ *
+ * <code>
+ *     QuantityAccumulator&lt;Mass&gt; total = new QuantityAccumulator&lt;Mass&gt;(KILOGRAM);
+ *     for (Quantity&lt;Mass&gt; q : readings) {
+ *         total.add(q);
+ *     }
+ *     Quantity&lt;Mass&gt; sum = total.getQuantity();
+ * </code>
+ *
+ * <p>
+ * Instances of this class are not thread-safe; partial accumulators (e.g. one per thread) can be merged with {@link #add(QuantityAccumulator)}.
+ * </p>
+ *
+ * @param <Q>
+ *          The type of the quantities.
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+public final class QuantityAccumulator<Q extends Quantity<Q>> {
+
+  /**
+   * Holds the unit of the sum.
+   */
+  private final Unit<Q> unit;
+
+  /**
+   * Holds the converters from the units added so far.
+   */
+  private final Map<Unit<?>, UnitConverter> converters = new HashMap<Unit<?>, UnitConverter>();
+
+  /**
+   * Holds the last unit added (most streams use a single unit).
+   */
+  private Unit<?> lastUnit;
+
+  /**
+   * Holds the converter from the last unit added.
+   */
+  private UnitConverter lastConverter;
+
+  private double sum;
+
+  /**
+   * Holds the running compensation (low-order bits lost by <code>sum</code>).
+   */
+  private double compensation;
+
+  private long count;
+
+  /**
+   * Creates an empty accumulator.
+   *
+   * @param unit
+   *          the unit of the sum.
+   */
+  public QuantityAccumulator(Unit<Q> unit) {
+    if (unit == null)
+      throw new NullPointerException();
+    this.unit = unit;
+  }
+
+  /**
+   * Returns the unit of the sum.
+   *
+   * @return the unit.
+   */
+  public Unit<Q> getUnit() {
+    return unit;
+  }
+
+  /**
+   * Adds the specified quantity.
+   *
+   * @param quantity
+   *          the quantity to add.
+   * @return this accumulator.
+   */
+  public QuantityAccumulator<Q> add(Quantity<Q> quantity) {
+    return add(doubleValueOf(quantity), quantity.getUnit());
+  }
+
+  /**
+   * Adds the specified value.
+   *
+   * @param value
+   *          the value to add.
+   * @param unit
+   *          the unit of the value.
+   * @return this accumulator.
+   */
+  public QuantityAccumulator<Q> add(double value, Unit<Q> unit) {
+    accumulate(converterFrom(unit).convert(value));
+    count++;
+    return this;
+  }
+
+  /**
+   * Adds the specified value stated in the unit of this accumulator.
+   *
+   * @param value
+   *          the value to add.
+   * @return this accumulator.
+   */
+  public QuantityAccumulator<Q> add(double value) {
+    accumulate(value);
+    count++;
+    return this;
+  }
+
+  /**
+   * Adds the sum (and count) of the specified accumulator to this one.
+   *
+   * @param that
+   *          the accumulator to merge.
+   * @return this accumulator.
+   * @throws UnsupportedOperationException
+   *           if the conversion from the unit of the specified accumulator is neither linear nor affine (e.g. logarithmic).
+   */
+  public QuantityAccumulator<Q> add(QuantityAccumulator<Q> that) {
+    UnitConverter converter = affineConverterFrom(that.unit);
+    if (converter.isLinear()) {
+      accumulate(converter.convert(that.sum));
+      accumulate(converter.convert(that.compensation));
+    } else { // Affine (e.g. temperatures), the sum is not a value stated in that unit.
+      accumulate(converter.convert(that.sum + that.compensation) + (that.count - 1) * converter.convert(0.0));
+    }
+    count += that.count;
+    return this;
+  }
+
+  /**
+   * Returns the number of values added.
+   *
+   * @return the count.
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the compensated sum stated in the unit of this accumulator.
+   *
+   * @return the sum.
+   */
+  public double doubleValue() {
+    return sum + compensation;
+  }
+
+  /**
+   * Returns the sum as an immutable quantity.
+   *
+   * @return the sum quantity.
+   */
+  public Quantity<Q> getQuantity() {
+    return new DoubleQuantity<Q>(doubleValue(), unit);
+  }
+
+  /**
+   * Resets this accumulator (cached converters are kept).
+   */
+  public void reset() {
+    sum = 0;
+    compensation = 0;
+    count = 0;
+  }
+
+  @Override
+  public String toString() {
+    return doubleValue() + " " + unit;
+  }
+
+  /**
+   * Adds a value to the running sum (Neumaier variant of the Kahan summation).
+   */
+  private void accumulate(double value) {
+    double t = sum + value;
+    if (Math.abs(sum) >= Math.abs(value)) {
+      compensation += (sum - t) + value;
+    } else {
+      compensation += (value - t) + sum;
+    }
+    sum = t;
+  }
+
+  /**
+   * Adds a sum of <code>count</code> values stated in the specified unit (affine conversions apply their offset once per value).
+   */
+  QuantityAccumulator<Q> add(double sum, long count, Unit<Q> unit) {
+    UnitConverter converter = affineConverterFrom(unit);
+    if (converter.isLinear()) {
+      accumulate(converter.convert(sum));
+    } else {
+      accumulate(converter.convert(sum) + (count - 1) * converter.convert(0.0));
+    }
+    this.count += count;
+    return this;
+  }
+
+  /**
+   * Returns the specified value stated in the unit of this accumulator (using the cached converters).
+   */
+  double convert(double value, Unit<Q> from) {
+    return converterFrom(from).convert(value);
+  }
+
+  /**
+   * Returns the converter from the specified unit, ensuring that a sum of values stated in that unit can be converted as a whole.
+   */
+  UnitConverter affineConverterFrom(Unit<Q> from) {
+    if (!canConvertSum(from))
+      throw new UnsupportedOperationException("Sums cannot be converted from " + from + " to " + unit + " (" + converterFrom(from) + ")");
+    return converterFrom(from);
+  }
+
+  /**
+   * Indicates if a sum of values stated in the specified unit can be converted as a whole, i.e. if the conversion is linear or affine.
+   */
+  boolean canConvertSum(Unit<Q> from) {
+    UnitConverter converter = converterFrom(from);
+    return converter.isLinear() || (converter instanceof AffineConverter) || (converter instanceof AddConverter);
+  }
+
+  UnitConverter converterFrom(Unit<Q> from) {
+    if (from == lastUnit)
+      return lastConverter;
+    UnitConverter converter = converters.get(from);
+    if (converter == null) {
+      converter = from.getConverterTo(unit);
+      converters.put(from, converter);
+    }
+    lastUnit = from;
+    lastConverter = converter;
+    return converter;
+  }
+
+  /**
+   * Returns the value of the specified quantity without boxing for the primitive quantities of this package.
+   */
+  static double doubleValueOf(Quantity<?> quantity) {
+    if (quantity instanceof DoubleQuantity)
+      return ((DoubleQuantity<?>) quantity).value;
+    if (quantity instanceof LongQuantity)
+      return ((LongQuantity<?>) quantity).value;
+    if (quantity instanceof IntegerQuantity)
+      return ((IntegerQuantity<?>) quantity).value;
+    if (quantity instanceof FloatQuantity)
+      return ((FloatQuantity<?>) quantity).value;
+    return quantity.getValue().doubleValue();
+  }
+}
@@ -0,0 +1,361 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.quantity;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import tec.units.ri.AbstractConverter;
+
+/**
+ * <p>
+ * An immutable column of quantities sharing a single unit, the values being held in a primitive array (<code>double</code>, <code>long</code> or
+ * <code>float</code>). Conversions and arithmetic are performed on the whole column in tight loops, {@link Quantity} instances are only created on
+ * demand.
+ * </p>
+ *
+ * <code>
+ *     QuantityArray&lt;Length&gt; distances = QuantityArray.of(new double[] { 1.5, 2, 42 }, KILO(METRE));
+ *     QuantityArray&lt;Length&gt; metres = distances.to(METRE);
+ *     QuantityArray&lt;?&gt; speeds = metres.divide(QuantityArray.of(new double[] { 10, 20, 30 }, SECOND));
+ * </code>
+ *
+ * @param <Q>
+ *          The type of the quantities.
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+public abstract class QuantityArray<Q extends Quantity<Q>> {
+
+  /**
+   * Holds the unit of all the quantities.
+   */
+  private final Unit<Q> unit;
+
+  /**
+   * Constructor.
+   *
+   * @param unit
+   *          the unit of the quantities.
+   */
+  protected QuantityArray(Unit<Q> unit) {
+    if (unit == null)
+      throw new NullPointerException();
+    this.unit = unit;
+  }
+
+  /**
+   * Returns a column holding a copy of the specified values.
+   *
+   * @param values
+   *          the values.
+   * @param unit
+   *          the unit of the values.
+   * @return the corresponding quantity column.
+   */
+  public static <Q extends Quantity<Q>> QuantityArray<Q> of(double[] values, Unit<Q> unit) {
+    return new DoubleQuantityArray<Q>(values.clone(), unit);
+  }
+
+  /**
+   * Returns a column holding a copy of the specified values.
+   *
+   * @param values
+   *          the values.
+   * @param unit
+   *          the unit of the values.
+   * @return the corresponding quantity column.
+   */
+  public static <Q extends Quantity<Q>> QuantityArray<Q> of(long[] values, Unit<Q> unit) {
+    return new LongQuantityArray<Q>(values.clone(), unit);
+  }
+
+  /**
+   * Returns a column holding a copy of the specified values.
+   *
+   * @param values
+   *          the values.
+   * @param unit
+   *          the unit of the values.
+   * @return the corresponding quantity column.
+   */
+  public static <Q extends Quantity<Q>> QuantityArray<Q> of(float[] values, Unit<Q> unit) {
+    return new FloatQuantityArray<Q>(values.clone(), unit);
+  }
+
+  /**
+   * Returns the unit of the quantities in this column.
+   *
+   * @return the unit.
+   */
+  public final Unit<Q> getUnit() {
+    return unit;
+  }
+
+  /**
+   * Returns the number of quantities in this column.
+   *
+   * @return the number of quantities.
+   */
+  public abstract int size();
+
+  /**
+   * Returns the value at the specified index (stated in this column unit).
+   *
+   * @param index
+   *          the index.
+   * @return the value at that index.
+   */
+  public abstract Number getValue(int index);
+
+  /**
+   * Returns the value at the specified index as a <code>double</code> (stated in this column unit).
+   *
+   * @param index
+   *          the index.
+   * @return the value at that index.
+   */
+  public abstract double doubleValue(int index);
+
+  /**
+   * Returns the quantity at the specified index (a new instance).
+   *
+   * @param index
+   *          the index.
+   * @return the quantity at that index.
+   */
+  public abstract Quantity<Q> get(int index);
+
+  /**
+   * Returns a copy of the values of this column as <code>double</code>.
+   *
+   * @return the values stated in this column unit.
+   */
+  public abstract double[] toDoubleArray();
+
+  /**
+   * Returns this column stated in the specified unit.
+   *
+   * @param unit
+   *          the target unit.
+   * @return the converted column.
+   */
+  public abstract QuantityArray<Q> to(Unit<Q> unit);
+
+  /**
+   * Returns the values of this column as <code>double</code>, stated in the specified unit.
+   *
+   * @param unit
+   *          the unit of the values returned.
+   * @return a new array holding the converted values.
+   */
+  public double[] toDoubleArray(Unit<Q> unit) {
+    double[] values = toDoubleArray();
+    convert(getUnit().getConverterTo(unit), values, values);
+    return values;
+  }
+
+  /**
+   * Returns the element-wise sum of this column with the one specified (stated in this column unit).
+   *
+   * @param that
+   *          the column to be added.
+   * @return <code>this[i] + that[i]</code>
+   * @throws IllegalArgumentException
+   *           if both columns do not have the same size.
+   */
+  public QuantityArray<Q> add(QuantityArray<Q> that) {
+    checkSize(that);
+    double[] result = that.toDoubleArray(getUnit());
+    for (int i = 0; i < result.length; i++) {
+      result[i] = doubleValue(i) + result[i];
+    }
+    return new DoubleQuantityArray<Q>(result, getUnit());
+  }
+
+  /**
+   * Returns the element-wise difference of this column with the one specified (stated in this column unit).
+   *
+   * @param that
+   *          the column to be subtracted.
+   * @return <code>this[i] - that[i]</code>
+   * @throws IllegalArgumentException
+   *           if both columns do not have the same size.
+   */
+  public QuantityArray<Q> subtract(QuantityArray<Q> that) {
+    checkSize(that);
+    double[] result = that.toDoubleArray(getUnit());
+    for (int i = 0; i < result.length; i++) {
+      result[i] = doubleValue(i) - result[i];
+    }
+    return new DoubleQuantityArray<Q>(result, getUnit());
+  }
+
+  /**
+   * Returns this column multiplied by the specified factor.
+   *
+   * @param factor
+   *          the multiplier.
+   * @return <code>this[i] * factor</code>
+   */
+  public abstract QuantityArray<Q> multiply(Number factor);
+
+  /**
+   * Returns this column divided by the specified divisor.
+   *
+   * @param divisor
+   *          the divisor.
+   * @return <code>this[i] / divisor</code>
+   */
+  public abstract QuantityArray<Q> divide(Number divisor);
+
+  /**
+   * Returns the element-wise product of this column with the one specified, the unit of the result being the product of both units.
+   *
+   * @param that
+   *          the column multiplicand.
+   * @return <code>this[i] * that[i]</code>
+   * @throws IllegalArgumentException
+   *           if both columns do not have the same size.
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  public QuantityArray<?> multiply(QuantityArray<?> that) {
+    checkSize(that);
+    double[] result = toDoubleArray();
+    for (int i = 0; i < result.length; i++) {
+      result[i] *= that.doubleValue(i);
+    }
+    return new DoubleQuantityArray(result, getUnit().multiply(that.getUnit()));
+  }
+
+  /**
+   * Returns the element-wise quotient of this column with the one specified, the unit of the result being the quotient of both units.
+   *
+   * @param that
+   *          the column divisor.
+   * @return <code>this[i] / that[i]</code>
+   * @throws IllegalArgumentException
+   *           if both columns do not have the same size.
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  public QuantityArray<?> divide(QuantityArray<?> that) {
+    checkSize(that);
+    double[] result = toDoubleArray();
+    for (int i = 0; i < result.length; i++) {
+      result[i] /= that.doubleValue(i);
+    }
+    return new DoubleQuantityArray(result, getUnit().divide(that.getUnit()));
+  }
+
+  /**
+   * Returns a read-only list view of this column, its quantities are created on access.
+   *
+   * @return the quantities of this column.
+   */
+  public List<Quantity<Q>> asList() {
+    return new QuantityList();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj)
+      return true;
+    if (!(obj instanceof QuantityArray))
+      return false;
+    QuantityArray<?> that = (QuantityArray<?>) obj;
+    if (!unit.equals(that.unit) || (size() != that.size()))
+      return false;
+    for (int i = 0; i < size(); i++) {
+      if (!getValue(i).equals(that.getValue(i)))
+        return false;
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = unit.hashCode();
+    for (int i = 0; i < size(); i++) {
+      hash = 31 * hash + getValue(i).hashCode();
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < size(); i++) {
+      if (i > 0)
+        sb.append(", ");
+      sb.append(getValue(i));
+    }
+    return sb.append("] ").append(unit).toString();
+  }
+
+  /**
+   * Checks that the specified column has the same size as this one.
+   */
+  final void checkSize(QuantityArray<?> that) {
+    if (that.size() != size())
+      throw new IllegalArgumentException("Size mismatch: " + size() + " != " + that.size());
+  }
+
+  /**
+   * Converts the source values into the destination array (which may be the source array).
+   */
+  static void convert(UnitConverter converter, double[] src, double[] dst) {
+    if (converter instanceof AbstractConverter) {
+      ((AbstractConverter) converter).convert(src, 0, dst, 0, src.length);
+    } else {
+      for (int i = 0; i < src.length; i++) {
+        dst[i] = converter.convert(src[i]);
+      }
+    }
+  }
+
+  private final class QuantityList extends AbstractList<Quantity<Q>> implements RandomAccess {
+
+    @Override
+    public Quantity<Q> get(int index) {
+      return QuantityArray.this.get(index);
+    }
+
+    @Override
+    public int size() {
+      return QuantityArray.this.size();
+    }
+  }
+}
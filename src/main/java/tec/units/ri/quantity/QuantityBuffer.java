@@ -0,0 +1,634 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.quantity;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.charset.StandardCharsets;
+
+import javax.measure.MeasurementException;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import tec.units.ri.AbstractConverter;
+import tec.units.ri.format.SimpleUnitFormat;
+
+/**
+ * <p>
+ * An off-heap column of quantities held in a (direct or memory mapped) {@link ByteBuffer}. Each quantity is stored as a one byte unit code and an
+ * eight bytes <code>double</code> value; the units are stored once in a dictionary at the head of the buffer so that a mapped buffer can be reopened
+ * with {@link #of(ByteBuffer, Unit)}.
+ * </p>
+ *
+ * <p>
+ * Values are read in the unit of the column (the unit specified at creation), each stored unit having its converter cached. Bulk conversion and
+ * arithmetic are performed in place or into another buffer, no quantity object is created unless requested with {@link #get(int)}.
+ * </p>
+ *
+ * <code>
+ *     QuantityBuffer&lt;Mass&gt; readings = QuantityBuffer.allocate(1000000, KILOGRAM);
+ *     readings.add(12, GRAM);
+ *     readings.add(3, KILOGRAM);
+ *     double total = readings.sum(); // 3.012 (kg)
+ * </code>
+ *
+ * <p>
+ * The buffer layout is: a header (magic number, capacity, size, number of units and the unit dictionary as UTF-8 text), the unit codes, then the
+ * values (eight bytes aligned). Instances of this class are not thread-safe.
+ * </p>
+ *
+ * @param <Q>
+ *          The type of the quantities.
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+public final class QuantityBuffer<Q extends Quantity<Q>> {
+
+  /**
+   * Identifies a formatted buffer.
+   */
+  private static final int MAGIC = 0x51554231;
+
+  private static final int CAPACITY_OFFSET = 4;
+
+  private static final int SIZE_OFFSET = 8;
+
+  private static final int UNIT_COUNT_OFFSET = 12;
+
+  private static final int DICTIONARY_OFFSET = 16;
+
+  /**
+   * Holds the number of bytes reserved for the unit dictionary.
+   */
+  private static final int DICTIONARY_BYTES = 2048;
+
+  private static final int CODES_OFFSET = DICTIONARY_OFFSET + DICTIONARY_BYTES;
+
+  /**
+   * Holds the maximum number of distinct units (one byte codes).
+   */
+  private static final int MAX_UNITS = 256;
+
+  /**
+   * Holds the number of values converted at once by bulk operations.
+   */
+  private static final int CHUNK_SIZE = 512;
+
+  /**
+   * Holds the buffer (positioned at the start of the layout).
+   */
+  private final ByteBuffer buffer;
+
+  /**
+   * Holds the column unit, values are read in that unit.
+   */
+  private final Unit<Q> unit;
+
+  private final int capacity;
+
+  private final int valuesOffset;
+
+  /**
+   * Holds the dictionary units by code.
+   */
+  @SuppressWarnings("unchecked")
+  private final Unit<Q>[] units = new Unit[MAX_UNITS];
+
+  /**
+   * Holds the converters from the dictionary units to the column unit by code.
+   */
+  private final UnitConverter[] converters = new UnitConverter[MAX_UNITS];
+
+  private int size;
+
+  private int unitCount;
+
+  /**
+   * Holds the next free byte of the dictionary.
+   */
+  private int dictionaryEnd = DICTIONARY_OFFSET;
+
+  private QuantityBuffer(ByteBuffer buffer, Unit<Q> unit) {
+    if (unit == null)
+      throw new NullPointerException();
+    this.buffer = buffer.slice().order(buffer.order());
+    this.unit = unit;
+    if ((this.buffer.capacity() >= CODES_OFFSET) && (this.buffer.getInt(0) == MAGIC)) { // Reopens.
+      capacity = this.buffer.getInt(CAPACITY_OFFSET);
+      if ((capacity <= 0) || (capacity > (this.buffer.capacity() - CODES_OFFSET) / 9))
+        throw new IllegalArgumentException("Invalid capacity: " + capacity);
+      valuesOffset = valuesOffset(capacity);
+      if (this.buffer.capacity() < valuesOffset + 8L * capacity)
+        throw new IllegalArgumentException("Buffer truncated");
+      size = this.buffer.getInt(SIZE_OFFSET);
+      if ((size < 0) || (size > capacity))
+        throw new IllegalArgumentException("Invalid size: " + size);
+      int count = this.buffer.getInt(UNIT_COUNT_OFFSET);
+      if ((count < 0) || (count > MAX_UNITS))
+        throw new IllegalArgumentException("Invalid unit count: " + count);
+      readDictionary(count);
+      for (int i = 0; i < size; i++) {
+        if (code(i) >= count)
+          throw new IllegalArgumentException("Invalid unit code at index " + i);
+      }
+    } else { // Formats.
+      capacity = capacityOf(this.buffer.capacity());
+      if (capacity <= 0)
+        throw new IllegalArgumentException("Buffer too small");
+      valuesOffset = valuesOffset(capacity);
+      this.buffer.putInt(0, MAGIC);
+      this.buffer.putInt(CAPACITY_OFFSET, capacity);
+      writeCounts();
+    }
+  }
+
+  /**
+   * Returns a new buffer allocated off-heap.
+   *
+   * @param capacity
+   *          the maximum number of quantities.
+   * @param unit
+   *          the unit in which values are read.
+   * @return a new direct quantity buffer.
+   */
+  public static <Q extends Quantity<Q>> QuantityBuffer<Q> allocate(int capacity, Unit<Q> unit) {
+    return new QuantityBuffer<Q>(ByteBuffer.allocateDirect(bytesFor(capacity)), unit);
+  }
+
+  /**
+   * Returns a quantity buffer stored in the specified byte buffer (from its position to its limit). If the byte buffer already holds a quantity
+   * buffer (e.g. a reopened memory mapped file), its content is kept; otherwise the byte buffer is formatted, its capacity being as large as possible.
+   *
+   * @param buffer
+   *          the byte buffer.
+   * @param unit
+   *          the unit in which values are read.
+   * @return the corresponding quantity buffer.
+   * @throws IllegalArgumentException
+   *           if the buffer is too small or holds units incompatible with the specified one.
+   */
+  public static <Q extends Quantity<Q>> QuantityBuffer<Q> of(ByteBuffer buffer, Unit<Q> unit) {
+    return new QuantityBuffer<Q>(buffer, unit);
+  }
+
+  /**
+   * Returns the number of bytes required to hold the specified number of quantities.
+   *
+   * @param capacity
+   *          the number of quantities.
+   * @return the buffer size in bytes.
+   */
+  public static int bytesFor(int capacity) {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    long bytes = valuesOffset(capacity) + 8L * capacity;
+    if (bytes > Integer.MAX_VALUE)
+      throw new IllegalArgumentException("Capacity too large: " + capacity);
+    return (int) bytes;
+  }
+
+  /**
+   * Returns the unit in which values are read.
+   *
+   * @return the column unit.
+   */
+  public Unit<Q> getUnit() {
+    return unit;
+  }
+
+  /**
+   * Returns the number of quantities in this buffer.
+   *
+   * @return the number of quantities.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the maximum number of quantities of this buffer.
+   *
+   * @return the capacity.
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Appends the specified value.
+   *
+   * @param value
+   *          the value.
+   * @param unit
+   *          the unit of the value.
+   * @throws IllegalStateException
+   *           if this buffer or its unit dictionary is full.
+   * @throws IllegalArgumentException
+   *           if the unit cannot be stored (its {@link SimpleUnitFormat} label does not parse back to the same unit).
+   */
+  public void add(double value, Unit<Q> unit) {
+    if (size == capacity)
+      throw new IllegalStateException("Buffer full");
+    int code = codeOf(unit);
+    buffer.put(CODES_OFFSET + size, (byte) code);
+    buffer.putDouble(valuesOffset + 8 * size, value);
+    buffer.putInt(SIZE_OFFSET, ++size);
+  }
+
+  /**
+   * Appends the specified quantity.
+   *
+   * @param quantity
+   *          the quantity.
+   * @throws IllegalStateException
+   *           if this buffer or its unit dictionary is full.
+   * @throws IllegalArgumentException
+   *           if the unit cannot be stored (its {@link SimpleUnitFormat} label does not parse back to the same unit).
+   */
+  public void add(Quantity<Q> quantity) {
+    add(quantity.getValue().doubleValue(), quantity.getUnit());
+  }
+
+  /**
+   * Adds in place to each value the value at the same index in the specified buffer (both stated in the column unit of this buffer).
+   *
+   * @param that
+   *          the buffer to add, of same size.
+   * @throws IllegalArgumentException
+   *           if the buffers have different sizes.
+   */
+  public void add(QuantityBuffer<Q> that) {
+    combine(that, 1.0);
+  }
+
+  /**
+   * Subtracts in place from each value the value at the same index in the specified buffer (both stated in the column unit of this buffer).
+   *
+   * @param that
+   *          the buffer to subtract, of same size.
+   * @throws IllegalArgumentException
+   *           if the buffers have different sizes.
+   */
+  public void subtract(QuantityBuffer<Q> that) {
+    combine(that, -1.0);
+  }
+
+  /**
+   * Returns the value at the specified index, stated in the column unit.
+   *
+   * @param index
+   *          the index.
+   * @return the converted value.
+   */
+  public double doubleValue(int index) {
+    checkIndex(index);
+    return converters[code(index)].convert(buffer.getDouble(valuesOffset + 8 * index));
+  }
+
+  /**
+   * Returns the quantity at the specified index, stated in the unit it was added with (a new instance).
+   *
+   * @param index
+   *          the index.
+   * @return the quantity at that index.
+   */
+  public Quantity<Q> get(int index) {
+    checkIndex(index);
+    return new DoubleQuantity<Q>(buffer.getDouble(valuesOffset + 8 * index), units[code(index)]);
+  }
+
+  /**
+   * Returns the sum of all the values, stated in the column unit.
+   *
+   * @return the sum of the values.
+   */
+  public double sum() {
+    DoubleBuffer values = values();
+    double[] chunk = new double[Math.min(size, CHUNK_SIZE)];
+    double sum = 0;
+    for (int from = 0; from < size; from += chunk.length) {
+      int len = Math.min(chunk.length, size - from);
+      read(values, from, chunk, len);
+      for (int i = 0; i < len; i++) {
+        sum += chunk[i];
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Converts in place all the values to the column unit (afterwards a single unit code is used).
+   */
+  public void normalize() {
+    int code = codeOf(unit);
+    DoubleBuffer values = values();
+    for (int start = 0, end; start < size; start = end) {
+      int c = code(start);
+      end = runEnd(start, size);
+      if (c != code) {
+        values.limit(end);
+        values.position(start);
+        DoubleBuffer run = values.slice();
+        values.limit(values.capacity());
+        UnitConverter converter = converters[c];
+        if (converter instanceof AbstractConverter) { // Bulk conversion.
+          ((AbstractConverter) converter).convert(run, run.duplicate());
+        } else {
+          for (int i = 0; i < run.capacity(); i++) {
+            run.put(i, converter.convert(run.get(i)));
+          }
+        }
+        setCodes(start, end, code);
+      }
+    }
+  }
+
+  /**
+   * Multiplies in place all the values, stated in the column unit, by the specified factor (afterwards a single unit code is used).
+   *
+   * @param factor
+   *          the multiplier.
+   */
+  public void multiply(double factor) {
+    scale(factor, false);
+  }
+
+  /**
+   * Divides in place all the values, stated in the column unit, by the specified divisor (afterwards a single unit code is used).
+   *
+   * @param divisor
+   *          the divisor.
+   */
+  public void divide(double divisor) {
+    scale(divisor, true);
+  }
+
+  /**
+   * Returns all the values stated in the specified unit into a new off-heap buffer.
+   *
+   * @param unit
+   *          the target unit.
+   * @return a new direct buffer holding the converted values.
+   */
+  public QuantityBuffer<Q> to(Unit<Q> unit) {
+    QuantityBuffer<Q> result = allocate(Math.max(size, 1), unit);
+    int code = result.codeOf(unit);
+    UnitConverter toTarget = this.unit.getConverterTo(unit);
+    DoubleBuffer values = values();
+    DoubleBuffer target = result.values();
+    double[] chunk = new double[Math.min(size, CHUNK_SIZE)];
+    for (int from = 0; from < size; from += chunk.length) {
+      int len = Math.min(chunk.length, size - from);
+      read(values, from, chunk, len);
+      convert(toTarget, chunk, 0, len);
+      target.position(from);
+      target.put(chunk, 0, len);
+    }
+    result.setCodes(0, size, code);
+    result.size = size;
+    result.buffer.putInt(SIZE_OFFSET, size);
+    return result;
+  }
+
+  /**
+   * Returns the values stated in the column unit as an in-heap column.
+   *
+   * @return the corresponding quantity array.
+   */
+  public QuantityArray<Q> toArray() {
+    double[] values = new double[size];
+    read(values(), 0, values, size);
+    return new DoubleQuantityArray<Q>(values, unit);
+  }
+
+  @Override
+  public String toString() {
+    return "QuantityBuffer[size=" + size + ", capacity=" + capacity + ", unit=" + unit + "]";
+  }
+
+  /**
+   * Multiplies (or divides) the values stated in the column unit; values held in other units are converted first, as scaling does not commute with
+   * affine conversions (e.g. Celsius to Kelvin).
+   */
+  private void scale(double factor, boolean divide) {
+    int code = codeOf(unit);
+    DoubleBuffer values = values();
+    double[] chunk = new double[Math.min(size, CHUNK_SIZE)];
+    for (int from = 0; from < size; from += chunk.length) {
+      int len = Math.min(chunk.length, size - from);
+      read(values, from, chunk, len);
+      for (int i = 0; i < len; i++) {
+        chunk[i] = divide ? chunk[i] / factor : chunk[i] * factor;
+      }
+      values.position(from);
+      values.put(chunk, 0, len);
+    }
+    setCodes(0, size, code);
+  }
+
+  /**
+   * Stores <code>this[i] + sign * that[i]</code> stated in the column unit (afterwards a single unit code is used).
+   */
+  private void combine(QuantityBuffer<Q> that, double sign) {
+    if (that.size != size)
+      throw new IllegalArgumentException("Size mismatch: " + size + " != " + that.size);
+    int code = codeOf(unit);
+    UnitConverter toThis = that.unit.getConverterTo(unit);
+    DoubleBuffer values = values();
+    DoubleBuffer others = that.values();
+    double[] chunk = new double[Math.min(size, CHUNK_SIZE)];
+    double[] other = new double[chunk.length];
+    for (int from = 0; from < size; from += chunk.length) {
+      int len = Math.min(chunk.length, size - from);
+      read(values, from, chunk, len);
+      that.read(others, from, other, len);
+      convert(toThis, other, 0, len);
+      for (int i = 0; i < len; i++) {
+        chunk[i] += sign * other[i];
+      }
+      values.position(from);
+      values.put(chunk, 0, len);
+    }
+    setCodes(0, size, code);
+  }
+
+  /**
+   * Reads the specified number of values starting at the specified index, converting each run of values having the same unit code to the column unit
+   * in bulk.
+   */
+  private void read(DoubleBuffer values, int from, double[] dst, int len) {
+    values.position(from);
+    values.get(dst, 0, len);
+    for (int start = from, end; start < from + len; start = end) {
+      end = runEnd(start, from + len);
+      convert(converters[code(start)], dst, start - from, end - start);
+    }
+  }
+
+  /**
+   * Returns the end (exclusive) of the run of values having the same unit code as the value at the specified index.
+   */
+  private int runEnd(int start, int limit) {
+    int c = code(start);
+    int end = start + 1;
+    while ((end < limit) && (code(end) == c)) {
+      end++;
+    }
+    return end;
+  }
+
+  private void setCodes(int from, int to, int code) {
+    for (int i = from; i < to; i++) {
+      buffer.put(CODES_OFFSET + i, (byte) code);
+    }
+  }
+
+  /**
+   * Returns a view of the values region.
+   */
+  private DoubleBuffer values() {
+    ByteBuffer bytes = buffer.duplicate();
+    bytes.position(valuesOffset);
+    bytes.limit(valuesOffset + 8 * capacity);
+    return bytes.slice().order(buffer.order()).asDoubleBuffer();
+  }
+
+  private static void convert(UnitConverter converter, double[] values, int offset, int length) {
+    if (converter.isIdentity())
+      return;
+    if (converter instanceof AbstractConverter) {
+      ((AbstractConverter) converter).convert(values, offset, values, offset, length);
+    } else {
+      for (int i = offset; i < offset + length; i++) {
+        values[i] = converter.convert(values[i]);
+      }
+    }
+  }
+
+  private int code(int index) {
+    return buffer.get(CODES_OFFSET + index) & 0xFF;
+  }
+
+  private void checkIndex(int index) {
+    if ((index < 0) || (index >= size))
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+  }
+
+  /**
+   * Returns the code of the specified unit, adding it to the dictionary if not present.
+   */
+  private int codeOf(Unit<Q> unit) {
+    for (int i = 0; i < unitCount; i++) {
+      if ((units[i] == unit) || units[i].equals(unit))
+        return i;
+    }
+    if (unitCount == MAX_UNITS)
+      throw new IllegalStateException("Unit dictionary full");
+    String label = SimpleUnitFormat.getInstance().format(unit);
+    if (!isStorable(label, unit))
+      throw new IllegalArgumentException(unit + " cannot be stored, its label '" + label + "' does not parse back to the same unit");
+    byte[] text = label.getBytes(StandardCharsets.UTF_8);
+    if (dictionaryEnd + 2 + text.length > CODES_OFFSET)
+      throw new IllegalStateException("Unit dictionary full");
+    UnitConverter converter = unit.getConverterTo(this.unit);
+    buffer.putShort(dictionaryEnd, (short) text.length);
+    for (int i = 0; i < text.length; i++) {
+      buffer.put(dictionaryEnd + 2 + i, text[i]);
+    }
+    dictionaryEnd += 2 + text.length;
+    units[unitCount] = unit;
+    converters[unitCount] = converter;
+    unitCount++;
+    writeCounts();
+    return unitCount - 1;
+  }
+
+  /**
+   * Indicates if the specified label parses back to the specified unit (or to a unit converted to it by identity).
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private static boolean isStorable(String label, Unit<?> unit) {
+    try {
+      Unit parsed = SimpleUnitFormat.getInstance().parse(label);
+      return parsed.equals(unit) || (parsed.isCompatible(unit) && parsed.getConverterTo(unit).isIdentity());
+    } catch (MeasurementException e) {
+      return false;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readDictionary(int count) {
+    for (int i = 0; i < count; i++) {
+      int length = (dictionaryEnd + 2 <= CODES_OFFSET) ? buffer.getShort(dictionaryEnd) : -1;
+      if ((length < 0) || (dictionaryEnd + 2 + length > CODES_OFFSET))
+        throw new IllegalArgumentException("Invalid unit dictionary");
+      byte[] text = new byte[length];
+      for (int j = 0; j < length; j++) {
+        text[j] = buffer.get(dictionaryEnd + 2 + j);
+      }
+      dictionaryEnd += 2 + length;
+      Unit<?> stored;
+      try {
+        stored = SimpleUnitFormat.getInstance().parse(new String(text, StandardCharsets.UTF_8));
+      } catch (MeasurementException e) {
+        throw new IllegalArgumentException("Invalid unit in dictionary", e);
+      }
+      if (!stored.isCompatible(unit))
+        throw new IllegalArgumentException(stored + " is not compatible with " + unit);
+      units[i] = (Unit<Q>) stored;
+      converters[i] = units[i].getConverterTo(unit);
+    }
+    unitCount = count;
+  }
+
+  private void writeCounts() {
+    buffer.putInt(SIZE_OFFSET, size);
+    buffer.putInt(UNIT_COUNT_OFFSET, unitCount);
+  }
+
+  private static int valuesOffset(int capacity) {
+    return (CODES_OFFSET + capacity + 7) & ~7;
+  }
+
+  /**
+   * Returns the largest capacity fitting in the specified number of bytes.
+   */
+  private static int capacityOf(int bytes) {
+    int capacity = (bytes - CODES_OFFSET) / 9;
+    while ((capacity > 0) && (valuesOffset(capacity) + 8L * capacity > bytes)) {
+      capacity--;
+    }
+    return capacity;
+  }
+}
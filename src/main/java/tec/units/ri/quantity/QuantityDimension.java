@@ -30,12 +30,15 @@
 package tec.units.ri.quantity;
 
 import tec.units.ri.AbstractUnit;
+import tec.units.ri.internal.MathUtil;
 import tec.units.ri.unit.BaseUnit;
+import tec.units.ri.unit.ProductUnit;
 import tec.units.ri.unit.Units;
 
 import javax.measure.Dimension;
 import javax.measure.Quantity;
 import javax.measure.Unit;
+import javax.measure.quantity.Dimensionless;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -56,9 +59,14 @@ import java.util.logging.Logger;
  * </code>
  * </p>
  *
+ * <p>
+ * Dimensions over the seven SI base dimensions are held as a vector of rational exponents packed into a single <code>long</code>, so that products,
+ * powers, roots and equality checks do not allocate units. Custom dimensions (or exponents too large to be packed) fall back to a pseudo unit.
+ * </p>
+ *
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
- * @version 1.0.2, $Date: 2016-10-18 $
+ * @version 1.1, $Date: 2026-10-17 $
  * @since 1.0
  */
 public final class QuantityDimension implements Dimension {
@@ -69,10 +77,30 @@ public final class QuantityDimension implements Dimension {
 	 */
   // private static final long serialVersionUID = 123289037718650030L;
 
+  /**
+   * Holds the symbols of the standard base dimensions, in exponent vector order.
+   */
+  private static final String BASE_SYMBOLS = "LMTI\u0398NJ";
+
+  /**
+   * Holds the number of standard base dimensions.
+   */
+  private static final int BASE_COUNT = 7;
+
+  /**
+   * Holds the largest common denominator of a packed exponent vector.
+   */
+  private static final int MAX_DENOMINATOR = 0x7F;
+
+  /**
+   * Denotes an exponent vector which cannot be packed (the denominator of a packed vector is never zero).
+   */
+  private static final long OVERFLOW = 0L;
+
   /**
    * Holds dimensionless.
    */
-  public static final Dimension NONE = new QuantityDimension(AbstractUnit.ONE);
+  public static final Dimension NONE = new QuantityDimension(1L);
 
   /**
    * Holds length dimension (L).
@@ -110,7 +138,20 @@ public final class QuantityDimension implements Dimension {
   public static final Dimension LUMINOUS_INTENSITY = new QuantityDimension('J');
 
   /**
-   * Holds the pseudo unit associated to this dimension.
+   * Holds the standard base dimensions, in exponent vector order.
+   */
+  private static final QuantityDimension[] BASE_DIMENSIONS = { (QuantityDimension) LENGTH, (QuantityDimension) MASS, (QuantityDimension) TIME,
+      (QuantityDimension) ELECTRIC_CURRENT, (QuantityDimension) TEMPERATURE, (QuantityDimension) AMOUNT_OF_SUBSTANCE,
+      (QuantityDimension) LUMINOUS_INTENSITY };
+
+  /**
+   * Holds the packed exponent vector: the common denominator in the lowest byte, followed by one signed numerator byte per base dimension
+   * (<code>OVERFLOW</code> for custom dimensions).
+   */
+  private final long exponents;
+
+  /**
+   * Holds the pseudo unit associated to a custom dimension (<code>null</code> for packed dimensions).
    */
   private final Unit<?> pseudoUnit;
 
@@ -122,7 +163,14 @@ public final class QuantityDimension implements Dimension {
    */
   @SuppressWarnings("rawtypes")
   QuantityDimension(char symbol) {
-    pseudoUnit = new BaseUnit("[" + symbol + ']', NONE);
+    int index = BASE_SYMBOLS.indexOf(symbol);
+    if (index >= 0) {
+      exponents = 1L | (1L << (8 * (index + 1)));
+      pseudoUnit = null;
+    } else {
+      exponents = OVERFLOW;
+      pseudoUnit = new BaseUnit("[" + symbol + ']', NONE);
+    }
   }
 
   /**
@@ -190,9 +238,21 @@ public final class QuantityDimension implements Dimension {
    *          the pseudo-unit.
    */
   private QuantityDimension(Unit<?> pseudoUnit) {
+    this.exponents = OVERFLOW;
     this.pseudoUnit = pseudoUnit;
   }
 
+  /**
+   * Constructor from packed exponent vector (not visible).
+   *
+   * @param exponents
+   *          the packed exponents.
+   */
+  private QuantityDimension(long exponents) {
+    this.exponents = exponents;
+    this.pseudoUnit = null;
+  }
+
   /**
    * Returns the product of this dimension with the one specified. If the specified dimension is not a physics dimension, then
    * <code>that.multiply(this)</code> is returned.
@@ -203,7 +263,7 @@ public final class QuantityDimension implements Dimension {
    * @since 1.0
    */
   public Dimension multiply(Dimension that) {
-    return (that instanceof QuantityDimension) ? this.multiply((QuantityDimension) that) : this.multiply(that);
+    return (that instanceof QuantityDimension) ? this.multiply((QuantityDimension) that) : that.multiply(this);
   }
 
   /**
@@ -215,7 +275,19 @@ public final class QuantityDimension implements Dimension {
    * @since 1.0
    */
   public QuantityDimension multiply(QuantityDimension that) {
-    return new QuantityDimension(this.pseudoUnit.multiply(that.pseudoUnit));
+    if ((this.pseudoUnit == null) && (that.pseudoUnit == null)) {
+      long thisDenominator = denominator(this.exponents);
+      long thatDenominator = denominator(that.exponents);
+      long denominator = thisDenominator / MathUtil.gcd(thisDenominator, thatDenominator) * thatDenominator;
+      long[] numerators = new long[BASE_COUNT];
+      for (int i = 0; i < BASE_COUNT; i++) {
+        numerators[i] = numerator(this.exponents, i) * (denominator / thisDenominator) + numerator(that.exponents, i) * (denominator / thatDenominator);
+      }
+      long product = pack(numerators, denominator);
+      if (product != OVERFLOW)
+        return new QuantityDimension(product);
+    }
+    return fromPseudoUnit(this.toPseudoUnit().multiply(that.toPseudoUnit()));
   }
 
   /**
@@ -251,7 +323,16 @@ public final class QuantityDimension implements Dimension {
    * @since 1.0
    */
   public final QuantityDimension pow(int n) {
-    return new QuantityDimension(this.pseudoUnit.pow(n));
+    if (pseudoUnit == null) {
+      long[] numerators = new long[BASE_COUNT];
+      for (int i = 0; i < BASE_COUNT; i++) {
+        numerators[i] = (long) numerator(exponents, i) * n;
+      }
+      long power = pack(numerators, denominator(exponents));
+      if (power != OVERFLOW)
+        return new QuantityDimension(power);
+    }
+    return fromPseudoUnit(this.toPseudoUnit().pow(n));
   }
 
   /**
@@ -265,7 +346,18 @@ public final class QuantityDimension implements Dimension {
    * @since 1.0
    */
   public final QuantityDimension root(int n) {
-    return new QuantityDimension(this.pseudoUnit.root(n));
+    if (n == 0)
+      throw new ArithmeticException("Root's order of zero");
+    if (pseudoUnit == null) {
+      long[] numerators = new long[BASE_COUNT];
+      for (int i = 0; i < BASE_COUNT; i++) {
+        numerators[i] = numerator(exponents, i);
+      }
+      long root = pack(numerators, (long) denominator(exponents) * n);
+      if (root != OVERFLOW)
+        return new QuantityDimension(root);
+    }
+    return fromPseudoUnit(this.toPseudoUnit().root(n));
   }
 
   /**
@@ -277,19 +369,32 @@ public final class QuantityDimension implements Dimension {
    */
   @SuppressWarnings("rawtypes")
   public Map<? extends Dimension, Integer> getBaseDimensions() {
+    final Map<QuantityDimension, Integer> baseDimensions = new HashMap<QuantityDimension, Integer>();
+    if (pseudoUnit == null) {
+      for (QuantityDimension base : BASE_DIMENSIONS) {
+        if (base.exponents == this.exponents)
+          return null;
+      }
+      long denominator = denominator(exponents);
+      for (int i = 0; i < BASE_COUNT; i++) {
+        long numerator = numerator(exponents, i);
+        if (numerator != 0)
+          baseDimensions.put(BASE_DIMENSIONS[i], (int) (numerator / MathUtil.gcd(numerator, denominator)));
+      }
+      return baseDimensions;
+    }
     Map<? extends Unit, Integer> pseudoUnits = pseudoUnit.getBaseUnits();
     if (pseudoUnits == null)
       return null;
-    final Map<QuantityDimension, Integer> baseDimensions = new HashMap<QuantityDimension, Integer>();
     for (Map.Entry<? extends Unit, Integer> entry : pseudoUnits.entrySet()) {
-      baseDimensions.put(new QuantityDimension(entry.getKey()), entry.getValue());
+      baseDimensions.put(fromPseudoUnit(entry.getKey()), entry.getValue());
     }
     return baseDimensions;
   }
 
   @Override
   public String toString() {
-    return pseudoUnit.toString();
+    return toPseudoUnit().toString();
   }
 
   @Override
@@ -299,13 +404,122 @@ public final class QuantityDimension implements Dimension {
     }
     if (obj instanceof QuantityDimension) {
       QuantityDimension other = (QuantityDimension) obj;
-      return (pseudoUnit == other.pseudoUnit) || (pseudoUnit != null && pseudoUnit.equals(other.pseudoUnit));
+      if (pseudoUnit == null)
+        return (other.pseudoUnit == null) && (exponents == other.exponents);
+      return pseudoUnit.equals(other.pseudoUnit);
     }
     return false;
   }
 
   @Override
   public int hashCode() {
-    return pseudoUnit == null ? 0 : pseudoUnit.hashCode();
+    return pseudoUnit == null ? (int) (exponents ^ (exponents >>> 32)) : pseudoUnit.hashCode();
+  }
+
+  /**
+   * Returns the numerator of the exponent of the specified base dimension.
+   */
+  private static int numerator(long exponents, int index) {
+    return (byte) (exponents >>> (8 * (index + 1)));
+  }
+
+  /**
+   * Returns the common denominator of the exponents.
+   */
+  private static int denominator(long exponents) {
+    return (int) (exponents & 0xFF);
+  }
+
+  /**
+   * Packs the specified exponents after reducing them to their lowest common denominator.
+   *
+   * @return the packed exponents or <code>OVERFLOW</code> if they do not fit.
+   */
+  private static long pack(long[] numerators, long denominator) {
+    long sign = denominator < 0 ? -1 : 1;
+    long gcd = denominator;
+    for (long numerator : numerators) {
+      gcd = MathUtil.gcd(gcd, numerator);
+    }
+    gcd *= sign;
+    long exponents = denominator / gcd;
+    if (exponents > MAX_DENOMINATOR)
+      return OVERFLOW;
+    for (int i = 0; i < BASE_COUNT; i++) {
+      long numerator = numerators[i] / gcd;
+      if ((numerator < Byte.MIN_VALUE) || (numerator > Byte.MAX_VALUE))
+        return OVERFLOW;
+      exponents |= (numerator & 0xFF) << (8 * (i + 1));
+    }
+    return exponents;
+  }
+
+  /**
+   * Returns the pseudo unit of this dimension (built from the base pseudo units for packed dimensions).
+   */
+  private Unit<?> toPseudoUnit() {
+    if (pseudoUnit != null)
+      return pseudoUnit;
+    Unit<?> unit = AbstractUnit.ONE;
+    long denominator = denominator(exponents);
+    for (int i = 0; i < BASE_COUNT; i++) {
+      long numerator = numerator(exponents, i);
+      if (numerator == 0)
+        continue;
+      long gcd = MathUtil.gcd(numerator, denominator);
+      Unit<?> factor = BasePseudoUnits.UNITS[i].pow((int) (numerator / gcd));
+      if (denominator != gcd)
+        factor = factor.root((int) (denominator / gcd));
+      unit = unit.multiply(factor);
+    }
+    return unit;
+  }
+
+  /**
+   * Returns the dimension of the specified pseudo unit, packed whenever it is a product of standard base pseudo units.
+   */
+  private static QuantityDimension fromPseudoUnit(Unit<?> unit) {
+    if (unit instanceof ProductUnit) {
+      ProductUnit<?> product = (ProductUnit<?>) unit;
+      long[] numerators = new long[BASE_COUNT];
+      long denominator = 1;
+      for (int i = 0; i < product.getUnitCount(); i++) {
+        int index = BasePseudoUnits.indexOf(product.getUnit(i));
+        long root = product.getUnitRoot(i);
+        long lcm = denominator / MathUtil.gcd(denominator, root) * root;
+        if ((index < 0) || (lcm > MAX_DENOMINATOR))
+          return new QuantityDimension(unit);
+        for (int j = 0; j < BASE_COUNT; j++) {
+          numerators[j] *= lcm / denominator;
+        }
+        numerators[index] += product.getUnitPow(i) * (lcm / root);
+        denominator = lcm;
+      }
+      long exponents = pack(numerators, denominator);
+      return exponents != OVERFLOW ? new QuantityDimension(exponents) : new QuantityDimension(unit);
+    }
+    int index = BasePseudoUnits.indexOf(unit);
+    return index >= 0 ? BASE_DIMENSIONS[index] : new QuantityDimension(unit);
+  }
+
+  /**
+   * Holds the pseudo units of the standard base dimensions (created on first use, only needed for formatting and custom dimensions).
+   */
+  private static final class BasePseudoUnits {
+    private static final Unit<?>[] UNITS = new Unit<?>[BASE_COUNT];
+
+    static {
+      for (int i = 0; i < BASE_COUNT; i++) {
+        UNITS[i] = new BaseUnit<Dimensionless>("[" + BASE_SYMBOLS.charAt(i) + ']', NONE);
+      }
+    }
+
+    private static int indexOf(Unit<?> unit) {
+      for (int i = 0; i < BASE_COUNT; i++) {
+        if (UNITS[i].equals(unit))
+          return i;
+      }
+      return -1;
+    }
   }
 }
@@ -0,0 +1,233 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.quantity;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+/**
+ * <p>
+ * A mutable state computing the count, sum, minimum, maximum, mean, variance and standard deviation of quantities in a target unit. Each quantity is
+ * converted through a cached per-unit converter, the sum is compensated and the variance is computed with Welford's algorithm. Partial statistics
+ * (e.g. computed by several threads) are merged with {@link #combine(QuantitySummaryStatistics)}, which makes this class suitable as the mutable
+ * container of a stream reduction:
+ * </p>
+ *
+ * <code>
+ *     QuantitySummaryStatistics&lt;Mass&gt; stats = readings.parallelStream().collect(() -&gt; new QuantitySummaryStatistics&lt;&gt;(KILOGRAM),
+ *         QuantitySummaryStatistics::accept, QuantitySummaryStatistics::combine);
+ * </code>
+ *
+ * <p>
+ * Instances of this class are not thread-safe.
+ * </p>
+ *
+ * @param <Q>
+ *          The type of the quantities.
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+public final class QuantitySummaryStatistics<Q extends Quantity<Q>> {
+
+  /**
+   * Holds the compensated sum (and the converters cache).
+   */
+  private final QuantityAccumulator<Q> sum;
+
+  private double min = Double.POSITIVE_INFINITY;
+
+  private double max = Double.NEGATIVE_INFINITY;
+
+  private double mean;
+
+  /**
+   * Holds the sum of squared differences from the mean.
+   */
+  private double m2;
+
+  /**
+   * Creates empty statistics.
+   *
+   * @param unit
+   *          the unit of the statistics.
+   */
+  public QuantitySummaryStatistics(Unit<Q> unit) {
+    this.sum = new QuantityAccumulator<Q>(unit);
+  }
+
+  /**
+   * Returns the unit of these statistics.
+   *
+   * @return the unit.
+   */
+  public Unit<Q> getUnit() {
+    return sum.getUnit();
+  }
+
+  /**
+   * Records the specified quantity.
+   *
+   * @param quantity
+   *          the quantity.
+   */
+  public void accept(Quantity<Q> quantity) {
+    accept(sum.convert(QuantityAccumulator.doubleValueOf(quantity), quantity.getUnit()));
+  }
+
+  /**
+   * Records the specified value stated in the unit of these statistics.
+   *
+   * @param value
+   *          the value.
+   */
+  public void accept(double value) {
+    sum.add(value);
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+    double delta = value - mean;
+    mean += delta / sum.getCount();
+    m2 += delta * (value - mean);
+  }
+
+  /**
+   * Merges the specified statistics into these ones.
+   *
+   * @param that
+   *          the statistics to merge.
+   * @throws UnsupportedOperationException
+   *           if the conversion from the unit of the specified statistics is neither linear nor affine (e.g. logarithmic).
+   */
+  public void combine(QuantitySummaryStatistics<Q> that) {
+    long n = that.getCount();
+    if (n == 0)
+      return;
+    UnitConverter converter = sum.affineConverterFrom(that.getUnit());
+    double thatMin = converter.convert(that.min);
+    double thatMax = converter.convert(that.max);
+    double thatMean = converter.convert(that.mean);
+    double factor = converter.convert(1.0) - converter.convert(0.0); // Linear or affine conversions only.
+    double thatM2 = that.m2 * factor * factor;
+    long count = getCount();
+    double delta = thatMean - mean;
+    long total = count + n;
+    mean += delta * n / total;
+    m2 += thatM2 + delta * delta * ((double) count * n / total);
+    min = Math.min(min, Math.min(thatMin, thatMax));
+    max = Math.max(max, Math.max(thatMin, thatMax));
+    sum.add(that.sum);
+  }
+
+  /**
+   * Returns the number of quantities recorded.
+   *
+   * @return the count.
+   */
+  public long getCount() {
+    return sum.getCount();
+  }
+
+  /**
+   * Returns the sum of the quantities recorded (zero if none).
+   *
+   * @return the sum.
+   */
+  public Quantity<Q> getSum() {
+    return sum.getQuantity();
+  }
+
+  /**
+   * Returns the minimum quantity recorded (positive infinity if none).
+   *
+   * @return the minimum.
+   */
+  public Quantity<Q> getMin() {
+    return new DoubleQuantity<Q>(min, getUnit());
+  }
+
+  /**
+   * Returns the maximum quantity recorded (negative infinity if none).
+   *
+   * @return the maximum.
+   */
+  public Quantity<Q> getMax() {
+    return new DoubleQuantity<Q>(max, getUnit());
+  }
+
+  /**
+   * Returns the arithmetic mean of the quantities recorded (<code>NaN</code> if none).
+   *
+   * @return the mean.
+   */
+  public Quantity<Q> getMean() {
+    return new DoubleQuantity<Q>((getCount() > 0) ? mean : Double.NaN, getUnit());
+  }
+
+  /**
+   * Returns the population variance of the quantities recorded (<code>NaN</code> if none), stated in the square of the unit.
+   *
+   * @return the variance.
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  public Quantity<?> getVariance() {
+    return new DoubleQuantity(variance(), getUnit().pow(2));
+  }
+
+  /**
+   * Returns the population standard deviation of the quantities recorded (<code>NaN</code> if none).
+   *
+   * @return the standard deviation.
+   */
+  public Quantity<Q> getStandardDeviation() {
+    return new DoubleQuantity<Q>(Math.sqrt(variance()), getUnit());
+  }
+
+  /**
+   * Returns the sample standard deviation of the quantities recorded (<code>NaN</code> if less than two).
+   *
+   * @return the sample standard deviation.
+   */
+  public Quantity<Q> getSampleStandardDeviation() {
+    long count = getCount();
+    return new DoubleQuantity<Q>((count > 1) ? Math.sqrt(m2 / (count - 1)) : Double.NaN, getUnit());
+  }
+
+  @Override
+  public String toString() {
+    return "QuantitySummaryStatistics[count=" + getCount() + ", sum=" + sum.doubleValue() + ", min=" + min + ", mean=" + getMean().getValue()
+        + ", max=" + max + ", unit=" + getUnit() + "]";
+  }
+
+  private double variance() {
+    long count = getCount();
+    return (count > 0) ? m2 / count : Double.NaN;
+  }
+}
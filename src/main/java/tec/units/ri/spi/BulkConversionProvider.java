@@ -0,0 +1,100 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.spi;
+
+/**
+ * <p>
+ * Bulk conversion of arrays for linear and affine converters (<code>y = factor * x + offset</code>), typically implemented with explicit SIMD
+ * instructions (e.g. <code>jdk.incubator.vector</code>) in a separate artifact.
+ * </p>
+ *
+ * <p>
+ * Implementations are located with the JDK {@link java.util.ServiceLoader}; the one with the highest {@link #getPriority() priority} is used by the
+ * bulk methods of {@link tec.units.ri.function.RationalConverter}, {@link tec.units.ri.function.MultiplyConverter},
+ * {@link tec.units.ri.function.AddConverter} and {@link tec.units.ri.function.AffineConverter}. If no implementation is installed (or it cannot be
+ * loaded), these converters use their scalar loops.
+ * </p>
+ *
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+public interface BulkConversionProvider {
+
+  /**
+   * Returns the priority of this provider, the provider with the highest priority is used.
+   *
+   * @return the priority.
+   */
+  int getPriority();
+
+  /**
+   * Stores <code>src[srcOff + i] * factor + offset</code> into <code>dst[dstOff + i]</code> for <code>0 &lt;= i &lt; len</code>. The ranges have
+   * already been checked by the caller; source and destination ranges either coincide or do not overlap.
+   *
+   * @param factor
+   *          the scaling factor.
+   * @param offset
+   *          the offset added after scaling.
+   * @param src
+   *          the values to convert.
+   * @param srcOff
+   *          the index of the first value to convert.
+   * @param dst
+   *          the array receiving the converted values.
+   * @param dstOff
+   *          the index where the first converted value is stored.
+   * @param len
+   *          the number of values to convert.
+   */
+  void convert(double factor, double offset, double[] src, int srcOff, double[] dst, int dstOff, int len);
+
+  /**
+   * Stores <code>src[srcOff + i] * factor + offset</code> into <code>dst[dstOff + i]</code> for <code>0 &lt;= i &lt; len</code>. Implementations must
+   * compute in <code>double</code> precision (as {@link tec.units.ri.AbstractConverter} does): values are widened to <code>double</code>, converted
+   * and rounded to <code>float</code> once. The ranges have already been checked by the caller; source and destination ranges either coincide or do not overlap.
+   *
+   * @param factor
+   *          the scaling factor.
+   * @param offset
+   *          the offset added after scaling.
+   * @param src
+   *          the values to convert.
+   * @param srcOff
+   *          the index of the first value to convert.
+   * @param dst
+   *          the array receiving the converted values.
+   * @param dstOff
+   *          the index where the first converted value is stored.
+   * @param len
+   *          the number of values to convert.
+   */
+  void convert(double factor, double offset, float[] src, int srcOff, float[] dst, int dstOff, int len);
+}
@@ -30,11 +30,14 @@
 package tec.units.ri.spi;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.measure.Dimension;
 import javax.measure.UnitConverter;
 
 import tec.units.ri.AbstractConverter;
+import tec.units.ri.ConverterCache;
 import tec.units.ri.quantity.QuantityDimension;
 
 /**
@@ -62,16 +65,24 @@ import tec.units.ri.quantity.QuantityDimension;
  *                 return super.getDimensionalTransform(dimension);
  *             }
  *     };
- *     try {
- *         DimensionalModel.setCurrent(relativistic); // Current thread use the relativistic model.
+ *     try (DimensionalModel.Scope scope = DimensionalModel.enter(relativistic)) { // Current thread use the relativistic model.
  *         Units.KILOGRAM.getConverterToAny(Units.JOULE); // Allowed.
  *         ...
- *     } finally {
- *         cleanup();
  *     }
  *     </code>
  * </p>
  * 
+ * <p>
+ * A model entered with {@link #enter} is confined to the current thread until its scope is closed; other threads keep the model set by
+ * {@link #setCurrent} (the default one when no scope is active anywhere).
+ * </p>
+ * 
+ * <p>
+ * Each model caches the fundamental dimensions and dimensional transforms it has computed. Models whose mapping can change must call
+ * {@link #invalidate()} afterwards; installing a model with {@link #setCurrent} clears the cache of that model and drops the unit converters computed
+ * with the model it replaces.
+ * </p>
+ * 
  * @see <a href="http://en.wikipedia.org/wiki/Dimensional_analysis">Wikipedia: Dimensional Analysis</a>
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
@@ -80,36 +91,161 @@ import tec.units.ri.quantity.QuantityDimension;
 public abstract class DimensionalModel {
 
   /**
-   * Holds the current model.
+   * Holds the current model (shared by all threads outside of a scope).
+   */
+  private static volatile DimensionalModel currentModel = new StandardModel();
+
+  /**
+   * Holds the innermost open scope of the current thread (if any).
+   */
+  private static final ThreadLocal<Scope> CURRENT_SCOPE = new ThreadLocal<Scope>();
+
+  /**
+   * Holds the number of threads having open scopes, the thread local is not read when there is none.
+   */
+  private static final AtomicInteger SCOPED_THREADS = new AtomicInteger();
+
+  /**
+   * Holds the thread which opened a scope when no other thread had one, or <code>null</code> if unknown (reset whenever a thread closes its last
+   * scope). While it is the only thread having scopes, other threads do not read the thread local either.
    */
-  private static DimensionalModel currentModel = new StandardModel();
+  private static volatile Thread scopedThread;
 
   /**
    * Returns the current dimensional model (by default an instance of {@link StandardModel}).
    *
-   * @return the current physical model.
+   * @return the model entered by the current thread or the shared current model.
    */
   public static DimensionalModel current() {
-    return currentModel;
+    int scopedThreads = SCOPED_THREADS.get();
+    if (scopedThreads == 0)
+      return currentModel;
+    if (scopedThreads == 1) {
+      Thread thread = scopedThread;
+      if ((thread != null) && (thread != Thread.currentThread()))
+        return currentModel;
+    }
+    Scope scope = CURRENT_SCOPE.get();
+    return (scope != null) ? scope.model : currentModel;
   }
 
   /**
-   * Sets the current dimensional model
+   * Makes the specified model current for the calling thread until the returned scope is closed. Scopes can be nested and must be closed in reverse
+   * order, closing a scope restores the model which was current before it was entered.
+   *
+   * @param model
+   *          the model for the current thread.
+   * @return the scope to close (typically in a try-with-resources statement).
+   * @since 1.0.4
+   */
+  public static Scope enter(DimensionalModel model) {
+    if (model == null)
+      throw new IllegalArgumentException("Null model");
+    Scope scope = new Scope(model, CURRENT_SCOPE.get());
+    if ((scope.previous == null) && (SCOPED_THREADS.incrementAndGet() == 1))
+      scopedThread = scope.owner;
+    CURRENT_SCOPE.set(scope);
+    return scope;
+  }
+
+  /**
+   * Sets the current dimensional model (shared by all threads outside of a scope).
    *
    * @param model
    *          the new current model.
    * @see #current
    */
   protected static void setCurrent(DimensionalModel model) {
+    model.invalidate();
+    DimensionalModel previous = currentModel;
     currentModel = model;
+    if (previous != model)
+      ConverterCache.getInstance().remove(previous);
+  }
+
+  /**
+   * A thread-confined dimensional model binding, see {@link DimensionalModel#enter}.
+   *
+   * @since 1.0.4
+   */
+  public static final class Scope implements AutoCloseable {
+
+    /**
+     * Holds the model entered.
+     */
+    private final DimensionalModel model;
+
+    /**
+     * Holds the scope entered by the current thread before this scope (if any).
+     */
+    private final Scope previous;
+
+    /**
+     * Holds the thread this scope belongs to.
+     */
+    private final Thread owner = Thread.currentThread();
+
+    /**
+     * Indicates if this scope has been closed.
+     */
+    private boolean closed;
+
+    private Scope(DimensionalModel model, Scope previous) {
+      this.model = model;
+      this.previous = previous;
+    }
+
+    /**
+     * Restores the model which was current before this scope was entered (does nothing if already closed).
+     *
+     * @throws IllegalStateException
+     *           if called from another thread than the one which entered this scope, or before the scopes entered after this one are closed.
+     */
+    @Override
+    public void close() {
+      if (Thread.currentThread() != owner)
+        throw new IllegalStateException("Scope closed by another thread");
+      if (closed)
+        return;
+      if (CURRENT_SCOPE.get() != this)
+        throw new IllegalStateException("Scopes must be closed in reverse order of entry");
+      closed = true;
+      if (previous != null) {
+        CURRENT_SCOPE.set(previous);
+      } else {
+        CURRENT_SCOPE.remove();
+        scopedThread = null; // Unknown until no thread has scopes.
+        SCOPED_THREADS.decrementAndGet();
+      }
+    }
   }
 
+  /**
+   * Holds the fundamental dimensions computed by this model.
+   */
+  private final Map<Dimension, Dimension> fundamentalDimensions = new ConcurrentHashMap<Dimension, Dimension>();
+
+  /**
+   * Holds the dimensional transforms computed by this model.
+   */
+  private final Map<Dimension, UnitConverter> dimensionalTransforms = new ConcurrentHashMap<Dimension, UnitConverter>();
+
   /**
    * Default constructor (allows for derivation).
    */
   protected DimensionalModel() {
   }
 
+  /**
+   * Clears the fundamental dimensions and dimensional transforms cached by this model, as well as the unit converters computed with this model
+   * (other models are not affected). Subclasses must call this method when their dimensions or transforms change.
+   */
+  protected void invalidate() {
+    fundamentalDimensions.clear();
+    dimensionalTransforms.clear();
+    ConverterCache.getInstance().remove(this);
+  }
+
   /**
    * Returns the fundamental dimension for the one specified. If the specified dimension is a dimensional product, the dimensional product of its
    * fundamental dimensions is returned. Physical quantities are considered commensurate only if their fundamental dimensions are equals using the
@@ -120,14 +256,18 @@ public abstract class DimensionalModel {
    * @return <code>this</code> or a rational product of fundamental dimension.
    */
   public Dimension getFundamentalDimension(Dimension dimension) {
+    Dimension fundamentalProduct = fundamentalDimensions.get(dimension);
+    if (fundamentalProduct != null)
+      return fundamentalProduct;
     Map<? extends Dimension, Integer> dimensions = dimension.getBaseDimensions();
     if (dimensions == null)
       return dimension; // Fundamental dimension.
     // Dimensional Product.
-    Dimension fundamentalProduct = QuantityDimension.NONE;
+    fundamentalProduct = QuantityDimension.NONE;
     for (Map.Entry<? extends Dimension, Integer> e : dimensions.entrySet()) {
-      fundamentalProduct = fundamentalProduct.multiply(this.getFundamentalDimension(e.getKey())).pow(e.getValue());
+      fundamentalProduct = fundamentalProduct.multiply(this.getFundamentalDimension(e.getKey()).pow(e.getValue()));
     }
+    fundamentalDimensions.put(dimension, fundamentalProduct);
     return fundamentalProduct;
   }
 
@@ -143,11 +283,14 @@ public abstract class DimensionalModel {
    *           if an unsupported transform is attemted.
    */
   public UnitConverter getDimensionalTransform(Dimension dimension) {
+    UnitConverter toFundamental = dimensionalTransforms.get(dimension);
+    if (toFundamental != null)
+      return toFundamental;
     Map<? extends Dimension, Integer> dimensions = dimension.getBaseDimensions();
     if (dimensions == null)
       return AbstractConverter.IDENTITY; // Fundamental dimension.
     // Dimensional Product.
-    UnitConverter toFundamental = AbstractConverter.IDENTITY;
+    toFundamental = AbstractConverter.IDENTITY;
     for (Map.Entry<? extends Dimension, Integer> e : dimensions.entrySet()) {
       UnitConverter cvtr = this.getDimensionalTransform(e.getKey());
       if (!(cvtr.isLinear()))
@@ -157,10 +300,24 @@ public abstract class DimensionalModel {
         pow = -pow;
         cvtr = cvtr.inverse();
       }
-      for (int j = 0; j < pow; j++) {
-        toFundamental = toFundamental.concatenate(cvtr);
-      }
+      toFundamental = toFundamental.concatenate(pow(cvtr, pow));
     }
+    dimensionalTransforms.put(dimension, toFundamental);
     return toFundamental;
   }
+
+  /**
+   * Returns the specified converter concatenated <code>n</code> times with itself (exponentiation by squaring).
+   */
+  private static UnitConverter pow(UnitConverter converter, int n) {
+    UnitConverter result = AbstractConverter.IDENTITY;
+    while (n > 0) {
+      if ((n & 1) != 0)
+        result = result.concatenate(converter);
+      n >>>= 1;
+      if (n > 0)
+        converter = converter.concatenate(converter);
+    }
+    return result;
+  }
 }
@@ -29,12 +29,15 @@
  */
 package tec.units.ri.unit;
 
-import static tec.units.ri.internal.MathUtil.pow;
+import java.lang.ref.WeakReference;
+import java.math.BigInteger;
+import java.util.WeakHashMap;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
 import javax.measure.UnitConverter;
 
+import tec.units.ri.ConverterInterner;
 import tec.units.ri.function.RationalConverter;
 import tec.uom.lib.common.function.SymbolSupplier;
 import tec.uom.lib.common.function.UnitConverterSupplier;
@@ -64,14 +67,14 @@ import tec.uom.lib.common.function.UnitConverterSupplier;
  * @since 1.0
  */
 public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
-  YOTTA("Y", RationalConverter.of(1000000000000000000000000d, 1d)), ZETTA("Z", RationalConverter.of(1000000000000000000000d, 1d)), EXA("E",
-      RationalConverter.of(pow(10, 18), 1d)), PETA("P", RationalConverter.of(pow(10, 15), 1d)), TERA("T", RationalConverter.of(pow(10, 12), 1d)), GIGA(
-      "G", RationalConverter.of(pow(10, 9), 1d)), MEGA("M", RationalConverter.of(pow(10, 6), 1d)), KILO("k", RationalConverter.of(pow(10, 3), 1d)), HECTO(
-      "h", RationalConverter.of(100d, 1d)), DEKA("da", RationalConverter.of(10d, 1d)), DECI("d", RationalConverter.of(1d, 10d)), CENTI("c",
-      RationalConverter.of(1d, 100d)), MILLI("m", RationalConverter.of(1d, 1000d)), MICRO("µ", RationalConverter.of(1d, pow(10, 6))), NANO("n",
-      RationalConverter.of(1d, pow(10, 9))), PICO("p", RationalConverter.of(1d, pow(10, 12))), FEMTO("f", RationalConverter.of(1d, pow(10, 15))), ATTO(
-      "a", RationalConverter.of(1d, pow(10, 18))), ZEPTO("z", RationalConverter.of(1d, pow(10, 21))), YOCTO("y", RationalConverter
-      .of(1d, pow(10, 24)));
+  YOTTA("Y", RationalConverter.of(BigInteger.TEN.pow(24), BigInteger.ONE)), ZETTA("Z", RationalConverter.of(BigInteger.TEN.pow(21), BigInteger.ONE)), EXA(
+      "E", RationalConverter.of(1000000000000000000L, 1)), PETA("P", RationalConverter.of(1000000000000000L, 1)), TERA("T", RationalConverter.of(
+      1000000000000L, 1)), GIGA("G", RationalConverter.of(1000000000, 1)), MEGA("M", RationalConverter.of(1000000, 1)), KILO("k", RationalConverter.of(
+      1000, 1)), HECTO("h", RationalConverter.of(100, 1)), DEKA("da", RationalConverter.of(10, 1)), DECI("d", RationalConverter.of(1, 10)), CENTI("c",
+      RationalConverter.of(1, 100)), MILLI("m", RationalConverter.of(1, 1000)), MICRO("µ", RationalConverter.of(1, 1000000)), NANO("n", RationalConverter
+      .of(1, 1000000000)), PICO("p", RationalConverter.of(1, 1000000000000L)), FEMTO("f", RationalConverter.of(1, 1000000000000000L)), ATTO("a",
+      RationalConverter.of(1, 1000000000000000000L)), ZEPTO("z", RationalConverter.of(BigInteger.ONE, BigInteger.TEN.pow(21))), YOCTO("y",
+      RationalConverter.of(BigInteger.ONE, BigInteger.TEN.pow(24)));
 
   /**
    * The symbol of this prefix, as returned by {@link #getSymbol}.
@@ -90,6 +93,12 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    */
   private final UnitConverter converter;
 
+  /**
+   * Holds the prefixed units of each unit, indexed by prefix ordinal (guarded by <code>PREFIXED_UNITS</code>). Both the units and their prefixed
+   * units are weakly referenced.
+   */
+  private static final WeakHashMap<Unit<?>, PrefixedUnits> PREFIXED_UNITS = new WeakHashMap<Unit<?>, PrefixedUnits>();
+
   /**
    * Creates a new prefix.
    *
@@ -100,7 +109,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    */
   MetricPrefix(String symbol, RationalConverter converter) {
     this.symbol = symbol;
-    this.converter = converter;
+    this.converter = ConverterInterner.intern(converter);
   }
 
   /**
@@ -123,6 +132,37 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
     return converter;
   }
 
+  /**
+   * Returns the specified unit with this prefix applied. The same prefixed unit instance is returned for a given unit instance as long as it is
+   * referenced.
+   *
+   * @param <Q>
+   *          The type of the quantity measured by the unit.
+   * @param unit
+   *          any unit.
+   * @return <code>unit.transform(getConverter())</code>.
+   * @since 1.0.4
+   */
+  @SuppressWarnings("unchecked")
+  public <Q extends Quantity<Q>> Unit<Q> prefix(Unit<Q> unit) {
+    synchronized (PREFIXED_UNITS) {
+      PrefixedUnits prefixedUnits = PREFIXED_UNITS.get(unit);
+      if ((prefixedUnits == null) || (prefixedUnits.unit.get() != unit)) { // Equal units may differ (e.g. by name).
+        if (prefixedUnits != null)
+          return unit.transform(converter);
+        prefixedUnits = new PrefixedUnits(unit);
+        PREFIXED_UNITS.put(unit, prefixedUnits);
+      }
+      WeakReference<Unit<?>> ref = prefixedUnits.prefixed[ordinal()];
+      Unit<Q> prefixed = (ref != null) ? (Unit<Q>) ref.get() : null;
+      if (prefixed == null) {
+        prefixed = unit.transform(converter);
+        prefixedUnits.prefixed[ordinal()] = new WeakReference<Unit<?>>(prefixed);
+      }
+      return prefixed;
+    }
+  }
+
   /**
    * Returns the specified unit multiplied by the factor <code>10<sup>24</sup></code>
    *
@@ -133,7 +173,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e24)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> YOTTA(Unit<Q> unit) {
-    return unit.transform(YOTTA.getConverter());
+    return YOTTA.prefix(unit);
   }
 
   /**
@@ -146,7 +186,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e21)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> ZETTA(Unit<Q> unit) {
-    return unit.transform(ZETTA.getConverter());
+    return ZETTA.prefix(unit);
   }
 
   /**
@@ -159,7 +199,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e18)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> EXA(Unit<Q> unit) {
-    return unit.transform(EXA.getConverter());
+    return EXA.prefix(unit);
   }
 
   /**
@@ -172,7 +212,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e15)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> PETA(Unit<Q> unit) {
-    return unit.transform(PETA.getConverter());
+    return PETA.prefix(unit);
   }
 
   /**
@@ -185,7 +225,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e12)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> TERA(Unit<Q> unit) {
-    return unit.transform(TERA.getConverter());
+    return TERA.prefix(unit);
   }
 
   /**
@@ -198,7 +238,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e9)</code>.
    */
   public static <Q extends Quantity<Q>> Unit<Q> GIGA(Unit<Q> unit) {
-    return unit.transform(GIGA.getConverter());
+    return GIGA.prefix(unit);
   }
 
   /**
@@ -211,7 +251,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e6)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> MEGA(Unit<Q> unit) {
-    return unit.transform(MEGA.getConverter());
+    return MEGA.prefix(unit);
   }
 
   /**
@@ -224,7 +264,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e3)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> KILO(Unit<Q> unit) {
-    return unit.transform(KILO.getConverter());
+    return KILO.prefix(unit);
   }
 
   /**
@@ -237,7 +277,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e2)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> HECTO(Unit<Q> unit) {
-    return unit.transform(HECTO.getConverter());
+    return HECTO.prefix(unit);
   }
 
   /**
@@ -250,7 +290,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e1)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> DEKA(Unit<Q> unit) {
-    return unit.transform(DEKA.getConverter());
+    return DEKA.prefix(unit);
   }
 
   /**
@@ -263,7 +303,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e-1)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> DECI(Unit<Q> unit) {
-    return unit.transform(DECI.getConverter());
+    return DECI.prefix(unit);
   }
 
   /**
@@ -276,7 +316,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e-2)</code>.
    */
   public static <Q extends Quantity<Q>> Unit<Q> CENTI(Unit<Q> unit) {
-    return unit.transform(CENTI.getConverter());
+    return CENTI.prefix(unit);
   }
 
   /**
@@ -289,7 +329,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e-3)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> MILLI(Unit<Q> unit) {
-    return unit.transform(MILLI.getConverter());
+    return MILLI.prefix(unit);
   }
 
   /**
@@ -302,7 +342,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e-6)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> MICRO(Unit<Q> unit) {
-    return unit.transform(MICRO.getConverter());
+    return MICRO.prefix(unit);
   }
 
   /**
@@ -315,7 +355,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e-9)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> NANO(Unit<Q> unit) {
-    return unit.transform(NANO.getConverter());
+    return NANO.prefix(unit);
   }
 
   /**
@@ -328,7 +368,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e-12)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> PICO(Unit<Q> unit) {
-    return unit.transform(PICO.getConverter());
+    return PICO.prefix(unit);
   }
 
   /**
@@ -341,7 +381,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e-15)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> FEMTO(Unit<Q> unit) {
-    return unit.transform(FEMTO.getConverter());
+    return FEMTO.prefix(unit);
   }
 
   /**
@@ -354,7 +394,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e-18)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> ATTO(Unit<Q> unit) {
-    return unit.transform(ATTO.getConverter());
+    return ATTO.prefix(unit);
   }
 
   /**
@@ -367,7 +407,7 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e-21)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> ZEPTO(Unit<Q> unit) {
-    return unit.transform(ZEPTO.getConverter());
+    return ZEPTO.prefix(unit);
   }
 
   /**
@@ -380,6 +420,19 @@ public enum MetricPrefix implements SymbolSupplier, UnitConverterSupplier {
    * @return <code>unit.multiply(1e-24)</code>.
    */
   public static final <Q extends Quantity<Q>> Unit<Q> YOCTO(Unit<Q> unit) {
-    return unit.transform(YOCTO.getConverter());
+    return YOCTO.prefix(unit);
+  }
+
+  /**
+   * The prefixed units of a unit.
+   */
+  private static final class PrefixedUnits {
+    private final WeakReference<Unit<?>> unit;
+    @SuppressWarnings("unchecked")
+    private final WeakReference<Unit<?>>[] prefixed = new WeakReference[values().length];
+
+    private PrefixedUnits(Unit<?> unit) {
+      this.unit = new WeakReference<Unit<?>>(unit);
+    }
   }
 }
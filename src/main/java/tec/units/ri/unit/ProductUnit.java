@@ -29,8 +29,12 @@
  */
 package tec.units.ri.unit;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.measure.Dimension;
 import javax.measure.Quantity;
@@ -40,7 +44,6 @@ import javax.measure.UnitConverter;
 import tec.units.ri.AbstractConverter;
 import tec.units.ri.AbstractUnit;
 import tec.units.ri.quantity.QuantityDimension;
-import tec.uom.lib.common.function.UnitSupplier;
 
 /**
  * <p>
@@ -52,6 +55,12 @@ import tec.uom.lib.common.function.UnitSupplier;
  * returns <code>METRE</code>.
  * </p>
  *
+ * <p>
+ * The elements of a product are held in packed parallel arrays (units, power and root exponents), sorted by the symbol of their system unit, then
+ * by hash code (equal units are adjacent), so that products are merged and compared in linear time and their element order does not depend on the
+ * order in which units were first used.
+ * </p>
+ *
  * @param <Q>
  *          The type of the quantity measured by this unit.
  *
@@ -68,26 +77,80 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
   // private static final long serialVersionUID = 962983585531030093L;
 
   /**
-   * Holds the units composing this product unit.
+   * The maximum number of recent {@link #getProductInstance} and {@link #getQuotientInstance} results remembered (a power of two).
+   */
+  private static final int MEMO_CAPACITY = 64;
+
+  /**
+   * Holds the canonical (unnamed) product units keyed by their elements.
+   */
+  private static final ConcurrentHashMap<ElementsKey, Instance> INSTANCES = new ConcurrentHashMap<ElementsKey, Instance>();
+
+  /**
+   * Holds the references to canonical product units reclaimed by the garbage collector.
+   */
+  private static final ReferenceQueue<ProductUnit<?>> RECLAIMED = new ReferenceQueue<ProductUnit<?>>();
+
+  /**
+   * Holds the recent product and quotient results, one slot per key hash (a new result replaces the one in its slot, no lock is taken).
+   */
+  private static final AtomicReferenceArray<Memo> MEMO = new AtomicReferenceArray<Memo>(MEMO_CAPACITY);
+
+  /**
+   * Holds the units composing this product unit, in canonical order (see {@link #compare(ProductUnit, int, ProductUnit, int)}).
+   */
+  private final Unit<?>[] units;
+
+  /**
+   * Holds the sort key of each unit (the symbol of its system unit).
    */
-  private final Element[] elements;
+  private final String[] keys;
+
+  /**
+   * Holds the power exponent of each unit (never zero).
+   */
+  private final int[] pows;
+
+  /**
+   * Holds the root exponent of each unit (always positive).
+   */
+  private final int[] roots;
 
   /**
    * Holds the hashcode (optimization).
    */
-  private int hashCode;
+  private final int hashCode;
 
   /**
    * Holds the symbol for this unit.
    */
   private final String symbol;
 
+  /**
+   * Holds the system unit once computed (units are immutable).
+   */
+  private volatile AbstractUnit<Q> systemUnit;
+
+  /**
+   * Holds the converter to the system unit once computed.
+   */
+  private volatile UnitConverter systemConverter;
+
+  /**
+   * Holds the dimension once computed.
+   */
+  private volatile Dimension dimension;
+
   /**
    * Default constructor (used solely to create <code>ONE</code> instance).
    */
   public ProductUnit() {
     this.symbol = "";
-    elements = new Element[0];
+    this.units = new Unit<?>[0];
+    this.keys = new String[0];
+    this.pows = new int[0];
+    this.roots = new int[0];
+    this.hashCode = 0;
   }
 
   /**
@@ -99,18 +162,37 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
    *           if the specified unit is not a product unit.
    */
   public ProductUnit(Unit<?> productUnit) {
+    ProductUnit<?> source = (ProductUnit<?>) productUnit;
     this.symbol = productUnit.getSymbol();
-    this.elements = ((ProductUnit<?>) productUnit).elements;
+    this.units = source.units;
+    this.keys = source.keys;
+    this.pows = source.pows;
+    this.roots = source.roots;
+    this.hashCode = source.hashCode;
   }
 
   /**
    * Product unit constructor.
    *
-   * @param elements
-   *          the product elements.
+   * @param units
+   *          the units in canonical order.
+   * @param keys
+   *          the sort keys of the units.
+   * @param pows
+   *          the power exponents.
+   * @param roots
+   *          the root exponents.
    */
-  private ProductUnit(Element[] elements) {
-    this.elements = elements;
+  private ProductUnit(Unit<?>[] units, String[] keys, int[] pows, int[] roots) {
+    this.units = units;
+    this.keys = keys;
+    this.pows = pows;
+    this.roots = roots;
+    int code = 0;
+    for (int i = 0; i < units.length; i++) {
+      code = 31 * (31 * (31 * code + units[i].hashCode()) + pows[i]) + roots[i];
+    }
+    this.hashCode = code;
     // this.symbol = elements[0].getUnit().getSymbol(); // TODO should contain ALL elements
     this.symbol = null;
   }
@@ -125,17 +207,11 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
    * @return <code>left * right</code>
    */
   public static Unit<?> getProductInstance(AbstractUnit<?> left, AbstractUnit<?> right) {
-    Element[] leftElems;
-    if (left instanceof ProductUnit<?>)
-      leftElems = ((ProductUnit<?>) left).elements;
-    else
-      leftElems = new Element[] { new Element(left, 1, 1) };
-    Element[] rightElems;
-    if (right instanceof ProductUnit<?>)
-      rightElems = ((ProductUnit<?>) right).elements;
-    else
-      rightElems = new Element[] { new Element(right, 1, 1) };
-    return getInstance(leftElems, rightElems);
+    MemoKey key = new MemoKey(left, right, false);
+    Unit<?> result = recall(key);
+    if (result == null)
+      result = memo(key, getInstance(productOf(left), productOf(right), 1));
+    return result;
   }
 
   /**
@@ -148,21 +224,11 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
    * @return <code>dividend / divisor</code>
    */
   public static Unit<?> getQuotientInstance(Unit<?> left, Unit<?> right) {
-    Element[] leftElems;
-    if (left instanceof ProductUnit<?>)
-      leftElems = ((ProductUnit<?>) left).elements;
-    else
-      leftElems = new Element[] { new Element(left, 1, 1) };
-    Element[] rightElems;
-    if (right instanceof ProductUnit<?>) {
-      Element[] elems = ((ProductUnit<?>) right).elements;
-      rightElems = new Element[elems.length];
-      for (int i = 0; i < elems.length; i++) {
-        rightElems[i] = new Element(elems[i].unit, -elems[i].pow, elems[i].root);
-      }
-    } else
-      rightElems = new Element[] { new Element(right, -1, 1) };
-    return getInstance(leftElems, rightElems);
+    MemoKey key = new MemoKey(left, right, true);
+    Unit<?> result = recall(key);
+    if (result == null)
+      result = memo(key, getInstance(productOf(left), productOf(right), -1));
+    return result;
   }
 
   /**
@@ -171,23 +237,27 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
    * @param unit
    *          the unit.
    * @param n
-   *          the root's order (n &gt; 0).
-   * @return <code>unit^(1/nn)</code>
+   *          the root's order (n &lt; 0 for the inverse of the root).
+   * @return <code>unit^(1/n)</code>
    * @throws ArithmeticException
-   *           if <code>n == 0</code>.
+   *           if <code>n == 0</code> or if an exponent overflows.
    */
   public static Unit<?> getRootInstance(AbstractUnit<?> unit, int n) {
-    Element[] unitElems;
-    if (unit instanceof ProductUnit<?>) {
-      Element[] elems = ((ProductUnit<?>) unit).elements;
-      unitElems = new Element[elems.length];
-      for (int i = 0; i < elems.length; i++) {
-        int gcd = gcd(Math.abs(elems[i].pow), elems[i].root * n);
-        unitElems[i] = new Element(elems[i].unit, elems[i].pow / gcd, elems[i].root * n / gcd);
-      }
-    } else
-      unitElems = new Element[] { new Element(unit, 1, n) };
-    return getInstance(unitElems, new Element[0]);
+    if (n == 0)
+      throw new ArithmeticException("Root's order of zero");
+    int sign = (n < 0) ? -1 : 1;
+    n = multiply(n, sign);
+    ProductUnit<?> product = productOf(unit);
+    int length = product.units.length;
+    int[] pows = new int[length];
+    int[] roots = new int[length];
+    for (int i = 0; i < length; i++) {
+      int root = multiply(product.roots[i], n);
+      int gcd = gcd(Math.abs(product.pows[i]), root);
+      pows[i] = multiply(sign, product.pows[i] / gcd);
+      roots[i] = root / gcd;
+    }
+    return getInstance(product.units, product.keys, pows, roots, length);
   }
 
   /**
@@ -195,22 +265,26 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
    *
    * @param unit
    *          the unit.
-   * @param nn
-   *          the exponent (nn &gt; 0).
+   * @param n
+   *          the exponent (may be zero or negative).
    * @return <code>unit^n</code>
+   * @throws ArithmeticException
+   *           if an exponent overflows.
    */
   public static Unit<?> getPowInstance(AbstractUnit<?> unit, int n) {
-    Element[] unitElems;
-    if (unit instanceof ProductUnit<?>) {
-      Element[] elems = ((ProductUnit<?>) unit).elements;
-      unitElems = new Element[elems.length];
-      for (int i = 0; i < elems.length; i++) {
-        int gcd = gcd(Math.abs(elems[i].pow * n), elems[i].root);
-        unitElems[i] = new Element(elems[i].unit, elems[i].pow * n / gcd, elems[i].root / gcd);
-      }
-    } else
-      unitElems = new Element[] { new Element(unit, n, 1) };
-    return getInstance(unitElems, new Element[0]);
+    if (n == 0)
+      return AbstractUnit.ONE;
+    ProductUnit<?> product = productOf(unit);
+    int length = product.units.length;
+    int[] pows = new int[length];
+    int[] roots = new int[length];
+    for (int i = 0; i < length; i++) {
+      int pow = multiply(product.pows[i], n);
+      int gcd = gcd(Math.abs(pow), product.roots[i]);
+      pows[i] = pow / gcd;
+      roots[i] = product.roots[i] / gcd;
+    }
+    return getInstance(product.units, product.keys, pows, roots, length);
   }
 
   /**
@@ -219,7 +293,7 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
    * @return the number of unit elements.
    */
   public int getUnitCount() {
-    return elements.length;
+    return units.length;
   }
 
   /**
@@ -232,7 +306,7 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
    *           if index is out of range <code>(index &lt; 0 || index &gt;= getUnitCount())</code>.
    */
   public Unit<?> getUnit(int index) {
-    return elements[index].getUnit();
+    return units[index];
   }
 
   /**
@@ -245,7 +319,7 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
    *           if index is out of range <code>(index &lt; 0 || index &gt;= getUnitCount())</code>.
    */
   public int getUnitPow(int index) {
-    return elements[index].getPow();
+    return pows[index];
   }
 
   /**
@@ -258,7 +332,7 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
    *           if index is out of range <code>(index &lt; 0 || index &gt;= getUnitCount())</code>.
    */
   public int getUnitRoot(int index) {
-    return elements[index].getRoot();
+    return roots[index];
   }
 
   @Override
@@ -276,23 +350,12 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
       return true;
     if (!(that instanceof ProductUnit<?>))
       return false;
-    // Two products are equals if they have the same elements
-    // regardless of the elements' order.
-    Element[] elems = ((ProductUnit<?>) that).elements;
-    if (elements.length != elems.length)
+    // Two products are equals if they have the same elements, elements being in canonical order.
+    ProductUnit<?> thatUnit = (ProductUnit<?>) that;
+    if ((this.hashCode != thatUnit.hashCode) || (this.units.length != thatUnit.units.length))
       return false;
-    for (Element element : elements) {
-      boolean unitFound = false;
-      for (Element elem : elems) {
-        if (element.unit.equals(elem.unit))
-          if ((element.pow != elem.pow) || (element.root != elem.root))
-            return false;
-          else {
-            unitFound = true;
-            break;
-          }
-      }
-      if (!unitFound)
+    for (int i = 0; i < units.length; i++) {
+      if ((this.pows[i] != thatUnit.pows[i]) || (this.roots[i] != thatUnit.roots[i]) || !this.units[i].equals(thatUnit.units[i]))
         return false;
     }
     return true;
@@ -300,42 +363,49 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
   @Override
   public int hashCode() {
-    if (this.hashCode != 0)
-      return this.hashCode;
-    int code = 0;
-    for (Element element : elements) {
-      code += element.unit.hashCode() * (element.pow * 3 - element.root * 2);
-    }
-    this.hashCode = code;
-    return code;
+    return hashCode;
   }
 
-  @SuppressWarnings("unchecked")
   @Override
   public AbstractUnit<Q> toSystemUnit() {
+    AbstractUnit<Q> result = systemUnit;
+    if (result == null)
+      systemUnit = result = computeSystemUnit();
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  private AbstractUnit<Q> computeSystemUnit() {
     Unit<?> systemUnit = AbstractUnit.ONE;
-    for (Element element : elements) {
-      Unit<?> unit = element.unit.getSystemUnit();
-      unit = unit.pow(element.pow);
-      unit = unit.root(element.root);
+    for (int i = 0; i < units.length; i++) {
+      Unit<?> unit = units[i].getSystemUnit();
+      unit = unit.pow(pows[i]);
+      unit = unit.root(roots[i]);
       systemUnit = systemUnit.multiply(unit);
     }
     return (AbstractUnit<Q>) systemUnit;
   }
 
   public UnitConverter getSystemConverter() {
+    UnitConverter result = systemConverter;
+    if (result == null)
+      systemConverter = result = computeSystemConverter();
+    return result;
+  }
+
+  private UnitConverter computeSystemConverter() {
     UnitConverter converter = AbstractConverter.IDENTITY;
-    for (Element e : elements) {
+    for (int i = 0; i < units.length; i++) {
       @SuppressWarnings("rawtypes")
-      UnitConverter cvtr = ((AbstractUnit) e.unit).getSystemConverter(); // TODO
+      UnitConverter cvtr = ((AbstractUnit) units[i]).getSystemConverter(); // TODO
       // check
       // for
       // type
       if (!(cvtr.isLinear()))
-        throw new UnsupportedOperationException(e.unit + " is non-linear, cannot convert");
-      if (e.root != 1)
-        throw new UnsupportedOperationException(e.unit + " holds a base unit with fractional exponent");
-      int pow = e.pow;
+        throw new UnsupportedOperationException(units[i] + " is non-linear, cannot convert");
+      if (roots[i] != 1)
+        throw new UnsupportedOperationException(units[i] + " holds a base unit with fractional exponent");
+      int pow = pows[i];
       if (pow < 0) { // Negative power.
         pow = -pow;
         cvtr = cvtr.inverse();
@@ -349,10 +419,17 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
   @Override
   public Dimension getDimension() {
+    Dimension result = dimension;
+    if (result == null)
+      dimension = result = computeDimension();
+    return result;
+  }
+
+  private Dimension computeDimension() {
     Dimension dimension = QuantityDimension.NONE;
     for (int i = 0; i < this.getUnitCount(); i++) {
       Unit<?> unit = this.getUnit(i);
-      if (this.elements != null && unit.getDimension() != null) {
+      if (unit.getDimension() != null) {
         Dimension d = unit.getDimension().pow(this.getUnitPow(i)).root(this.getUnitRoot(i));
         if (dimension != null) {
           dimension = dimension.multiply(d);
@@ -365,65 +442,180 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
   }
 
   /**
-   * Returns the unit defined from the product of the specified elements.
+   * Returns the specified unit as a product (itself if already a product, or a single element product otherwise).
+   */
+  @SuppressWarnings("rawtypes")
+  private static ProductUnit<?> productOf(Unit<?> unit) {
+    if (unit instanceof ProductUnit<?>)
+      return (ProductUnit<?>) unit;
+    return new ProductUnit(new Unit<?>[] { unit }, new String[] { keyOf(unit) }, new int[] { 1 }, new int[] { 1 });
+  }
+
+  /**
+   * Returns the sort key of the specified unit: the symbol of its system unit (equal units have equal system units).
+   */
+  private static String keyOf(Unit<?> unit) {
+    String symbol = unit.getSystemUnit().getSymbol();
+    return (symbol != null) ? symbol : "";
+  }
+
+  /**
+   * Compares the specified elements by sort key, then (for units having the same system unit, e.g. <code>km</code> and <code>m</code>) by their
+   * formatted label, name and exponent; returns <code>0</code> only for equal units. The order depends on the units only, so it is the same in every
+   * run. Unequal units undistinguishable by all these criteria (not expected in practice) keep the order of the operands.
+   */
+  private static int compare(ProductUnit<?> left, int i, ProductUnit<?> right, int j) {
+    int cmp = left.keys[i].compareTo(right.keys[j]);
+    if (cmp != 0)
+      return cmp;
+    Unit<?> leftUnit = left.units[i];
+    Unit<?> rightUnit = right.units[j];
+    if ((leftUnit == rightUnit) || leftUnit.equals(rightUnit))
+      return 0;
+    cmp = leftUnit.toString().compareTo(rightUnit.toString());
+    if (cmp != 0)
+      return cmp;
+    cmp = String.valueOf(leftUnit.getName()).compareTo(String.valueOf(rightUnit.getName()));
+    if (cmp != 0)
+      return cmp;
+    long leftExponent = (long) left.pows[i] * right.roots[j];
+    long rightExponent = (long) right.pows[j] * left.roots[i];
+    return (leftExponent <= rightExponent) ? -1 : 1;
+  }
+
+  /**
+   * Returns the product of the specified exponents.
    *
-   * @param leftElems
+   * @throws ArithmeticException
+   *           if the result overflows an <code>int</code>.
+   */
+  private static int multiply(int a, int b) {
+    long product = (long) a * b;
+    if ((int) product != product)
+      throw new ArithmeticException("Exponent overflow");
+    return (int) product;
+  }
+
+  /**
+   * Returns the unit defined from the product of the specified elements, merging the sorted elements of both operands in a single pass.
+   *
+   * @param left
    *          left multiplicand elements.
-   * @param rightElems
+   * @param right
    *          right multiplicand elements.
+   * @param sign
+   *          <code>1</code> for a product, <code>-1</code> for a quotient.
    * @return the corresponding unit.
    */
-  @SuppressWarnings("rawtypes")
-  private static Unit<?> getInstance(Element[] leftElems, Element[] rightElems) {
-
-    // Merges left elements with right elements.
-    Element[] result = new Element[leftElems.length + rightElems.length];
-    int resultIndex = 0;
-    for (Element leftElem : leftElems) {
-      Unit<?> unit = leftElem.unit;
-      int p1 = leftElem.pow;
-      int r1 = leftElem.root;
-      int p2 = 0;
-      int r2 = 1;
-      for (Element rightElem : rightElems) {
-        if (unit.equals(rightElem.unit)) {
-          p2 = rightElem.pow;
-          r2 = rightElem.root;
-          break; // No duplicate.
+  private static Unit<?> getInstance(ProductUnit<?> left, ProductUnit<?> right, int sign) {
+    int leftLength = left.units.length;
+    int rightLength = right.units.length;
+    Unit<?>[] units = new Unit<?>[leftLength + rightLength];
+    String[] keys = new String[units.length];
+    int[] pows = new int[units.length];
+    int[] roots = new int[units.length];
+    int i = 0;
+    int j = 0;
+    int length = 0;
+    while ((i < leftLength) || (j < rightLength)) {
+      int cmp = (j == rightLength) ? -1 : (i == leftLength) ? 1 : compare(left, i, right, j);
+      if (cmp < 0) {
+        units[length] = left.units[i];
+        keys[length] = left.keys[i];
+        pows[length] = left.pows[i];
+        roots[length++] = left.roots[i++];
+      } else if (cmp > 0) {
+        units[length] = right.units[j];
+        keys[length] = right.keys[j];
+        pows[length] = multiply(sign, right.pows[j]);
+        roots[length++] = right.roots[j++];
+      } else { // Same unit, merges exponents.
+        long exactPow = ((long) left.pows[i] * right.roots[j]) + ((long) sign * right.pows[j] * left.roots[i]);
+        int pow = (int) exactPow;
+        if (pow != exactPow)
+          throw new ArithmeticException("Exponent overflow");
+        int root = multiply(left.roots[i], right.roots[j]);
+        if (pow != 0) {
+          int gcd = gcd(Math.abs(pow), root);
+          units[length] = left.units[i];
+          keys[length] = left.keys[i];
+          pows[length] = pow / gcd;
+          roots[length++] = root / gcd;
         }
-      }
-      int pow = (p1 * r2) + (p2 * r1);
-      int root = r1 * r2;
-      if (pow != 0) {
-        int gcd = gcd(Math.abs(pow), root);
-        result[resultIndex++] = new Element(unit, pow / gcd, root / gcd);
+        i++;
+        j++;
       }
     }
+    return getInstance(units, keys, pows, roots, length);
+  }
 
-    // Appends remaining right elements not merged.
-    for (Element rightElem : rightElems) {
-      Unit<?> unit = rightElem.unit;
-      boolean hasBeenMerged = false;
-      for (Element leftElem : leftElems) {
-        if (unit.equals(leftElem.unit)) {
-          hasBeenMerged = true;
-          break;
-        }
-      }
-      if (!hasBeenMerged)
-        result[resultIndex++] = rightElem;
+  /**
+   * Returns or creates the unit having the specified (sorted) elements.
+   */
+  private static Unit<?> getInstance(Unit<?>[] units, String[] keys, int[] pows, int[] roots, int length) {
+    if (length == 0)
+      return AbstractUnit.ONE;
+    if ((length == 1) && (pows[0] == roots[0]))
+      return units[0];
+    if (length < units.length) {
+      Unit<?>[] newUnits = new Unit<?>[length];
+      System.arraycopy(units, 0, newUnits, 0, length);
+      units = newUnits;
+      String[] newKeys = new String[length];
+      System.arraycopy(keys, 0, newKeys, 0, length);
+      keys = newKeys;
+      int[] newPows = new int[length];
+      System.arraycopy(pows, 0, newPows, 0, length);
+      pows = newPows;
+      int[] newRoots = new int[length];
+      System.arraycopy(roots, 0, newRoots, 0, length);
+      roots = newRoots;
     }
+    return intern(units, keys, pows, roots);
+  }
 
-    // Returns or creates instance.
-    if (resultIndex == 0)
-      return AbstractUnit.ONE;
-    else if ((resultIndex == 1) && (result[0].pow == result[0].root))
-      return result[0].unit;
-    else {
-      Element[] elems = new Element[resultIndex];
-      System.arraycopy(result, 0, elems, 0, resultIndex);
-      return new ProductUnit(elems);
+  /**
+   * Returns the canonical product unit having the specified elements (with identical units), creating it if none exists or if the existing one has
+   * since been given a name or symbol.
+   */
+  @SuppressWarnings("rawtypes")
+  private static ProductUnit<?> intern(Unit<?>[] units, String[] keys, int[] pows, int[] roots) {
+    ProductUnit<?> unit = new ProductUnit(units, keys, pows, roots);
+    ElementsKey key = new ElementsKey(unit);
+    for (Instance reclaimed; (reclaimed = (Instance) RECLAIMED.poll()) != null;) {
+      INSTANCES.remove(reclaimed.key, reclaimed);
     }
+    Instance created = new Instance(unit, key);
+    Instance instance = INSTANCES.get(key);
+    while (true) {
+      ProductUnit<?> canonical = (instance != null) ? instance.get() : null;
+      if ((canonical != null) && canonical.isUnnamed())
+        return canonical;
+      if ((instance == null) ? (INSTANCES.putIfAbsent(key, created) == null) : INSTANCES.replace(key, instance, created))
+        return unit;
+      instance = INSTANCES.get(key); // Concurrently updated.
+    }
+  }
+
+  private static Unit<?> recall(MemoKey key) {
+    Memo memo = MEMO.get(key.hashCode() & (MEMO_CAPACITY - 1));
+    if ((memo == null) || !memo.key.equals(key))
+      return null;
+    if ((memo.result instanceof ProductUnit) && !((ProductUnit<?>) memo.result).isUnnamed())
+      return null; // Named since.
+    return memo.result;
+  }
+
+  private static Unit<?> memo(MemoKey key, Unit<?> result) {
+    MEMO.set(key.hashCode() & (MEMO_CAPACITY - 1), new Memo(key, result));
+    return result;
+  }
+
+  /**
+   * Indicates if this product unit has neither name nor symbol (only such instances are shared).
+   */
+  private boolean isUnnamed() {
+    return (getName() == null) && (getSymbol() == null);
   }
 
   /**
@@ -431,7 +623,7 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
    *
    * @param m
    *          the first number.
-   * @param nn
+   * @param n
    *          the second number.
    * @return the greatest common divisor.
    */
@@ -443,72 +635,105 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
   }
 
   /**
-   * Inner product element represents a rational power of a single unit.
+   * The key of a canonical product unit, units are compared by identity (equal units may still differ by name or symbol).
    */
-  @SuppressWarnings("rawtypes")
-  private final static class Element implements UnitSupplier {
-
-    /**
-		 * 
-		 */
-    // private static final long serialVersionUID = 452938412398890507L;
-
-    /**
-     * Holds the single unit.
-     */
-    private final Unit<?> unit;
-
-    /**
-     * Holds the power exponent.
-     */
-    private final int pow;
-
-    /**
-     * Holds the root exponent.
-     */
-    private final int root;
-
-    /**
-     * Structural constructor.
-     *
-     * @param unit
-     *          the unit.
-     * @param pow
-     *          the power exponent.
-     * @param root
-     *          the root exponent.
-     */
-    private Element(Unit<?> unit, int pow, int root) {
-      this.unit = unit;
-      this.pow = pow;
-      this.root = root;
+  private static final class ElementsKey {
+
+    private final Unit<?>[] units;
+
+    private final int[] pows;
+
+    private final int[] roots;
+
+    private final int hashCode;
+
+    private ElementsKey(ProductUnit<?> unit) {
+      this.units = unit.units;
+      this.pows = unit.pows;
+      this.roots = unit.roots;
+      int code = unit.hashCode;
+      for (Unit<?> u : units) {
+        code = 31 * code + System.identityHashCode(u);
+      }
+      this.hashCode = code;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof ElementsKey))
+        return false;
+      ElementsKey that = (ElementsKey) obj;
+      if (units.length != that.units.length)
+        return false;
+      for (int i = 0; i < units.length; i++) {
+        if ((units[i] != that.units[i]) || (pows[i] != that.pows[i]) || (roots[i] != that.roots[i]))
+          return false;
+      }
+      return true;
     }
 
-    /**
-     * Returns this element's unit.
-     *
-     * @return the single unit.
-     */
-    public Unit<?> getUnit() {
-      return unit;
+    @Override
+    public int hashCode() {
+      return hashCode;
     }
+  }
+
+  /**
+   * Weak reference to a canonical product unit, remembering its key for removal once reclaimed.
+   */
+  private static final class Instance extends WeakReference<ProductUnit<?>> {
+
+    private final ElementsKey key;
+
+    private Instance(ProductUnit<?> unit, ElementsKey key) {
+      super(unit, RECLAIMED);
+      this.key = key;
+    }
+  }
 
-    /**
-     * Returns the power exponent. The power exponent can be negative but is always different from zero.
-     *
-     * @return the power exponent of the single unit.
-     */
-    public int getPow() {
-      return pow;
+  /**
+   * A memoized product or quotient result (immutable, replaced as a whole).
+   */
+  private static final class Memo {
+
+    private final MemoKey key;
+
+    private final Unit<?> result;
+
+    private Memo(MemoKey key, Unit<?> result) {
+      this.key = key;
+      this.result = result;
+    }
+  }
+
+  /**
+   * The key of a memoized product or quotient, operands are compared by identity.
+   */
+  private static final class MemoKey {
+
+    private final Unit<?> left;
+
+    private final Unit<?> right;
+
+    private final boolean quotient;
+
+    private MemoKey(Unit<?> left, Unit<?> right, boolean quotient) {
+      this.left = left;
+      this.right = right;
+      this.quotient = quotient;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof MemoKey))
+        return false;
+      MemoKey that = (MemoKey) obj;
+      return (left == that.left) && (right == that.right) && (quotient == that.quotient);
     }
 
-    /**
-     * Returns the root exponent. The root exponent is always greater than zero.
-     *
-     * @return the root exponent of the single unit.
-     */
-    public int getRoot() {
-      return root;
+    @Override
+    public int hashCode() {
+      return 31 * (31 * System.identityHashCode(left) + System.identityHashCode(right)) + (quotient ? 1 : 0);
     }
   }
 
@@ -96,6 +96,11 @@ public final class TransformedUnit<Q extends Quantity<Q>> extends AbstractUnit<Q
    */
   private String symbol;
 
+  /**
+   * Holds the converter to the system unit once computed (units are immutable).
+   */
+  private volatile UnitConverter systemConverter;
+
   /**
    * Creates a transformed unit from the specified parent and system unit. using the parent as symbol
    * 
@@ -174,7 +179,10 @@ public final class TransformedUnit<Q extends Quantity<Q>> extends AbstractUnit<Q
 
   @Override
   public UnitConverter getSystemConverter() {
-    return parentUnit.getSystemConverter().concatenate(converter);
+    UnitConverter result = systemConverter;
+    if (result == null)
+      systemConverter = result = parentUnit.getSystemConverter().concatenate(converter);
+    return result;
   }
 
   @Override
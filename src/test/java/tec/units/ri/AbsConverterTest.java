@@ -69,6 +69,14 @@ public class AbsConverterTest {
     assertTrue(converter.isIdentity());
   }
 
+  @Test
+  public void bulkConvertTest() {
+    double[] values = { 1, 2, 3 };
+    double[] result = new double[3];
+    converter.convert(values, 0, result, 0, 3);
+    assertArrayEquals(values, result, 0);
+  }
+
   @Test
   public void conversionStepsTest() {
     assertNotNull(converter.getConversionSteps());
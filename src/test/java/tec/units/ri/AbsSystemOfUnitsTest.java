@@ -30,9 +30,14 @@
 package tec.units.ri;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static tec.units.ri.unit.Units.*;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -75,6 +80,47 @@ public class AbsSystemOfUnitsTest {
     Set<? extends Unit<?>> units = system.getUnits(QuantityDimension.LENGTH);
     assertNotNull(units);
     assertEquals(3, units.size());
+    assertEquals(0, system.getUnits(QuantityDimension.LUMINOUS_INTENSITY).size());
+  }
+
+  @Test
+  public void testGetUnitBySymbolAndName() {
+    assertEquals(TestUnits.TONNE, system.getUnitBySymbol("t"));
+    assertEquals(TestUnits.TONNE, system.getUnitByName("Tonne"));
+    assertEquals(TestUnits.SCHOPPEN_BAYERN, system.getUnitByName("Schoppen Bayern"));
+    assertNull(system.getUnitBySymbol("nope"));
+    assertNull(system.getUnitByName("Nope"));
+  }
+
+  @Test
+  public void testUnitsForDimensionIsACopy() {
+    Set<? extends Unit<?>> units = system.getUnits(QuantityDimension.LENGTH);
+    units.clear();
+    assertEquals(3, system.getUnits(QuantityDimension.LENGTH).size());
+  }
+
+  @Test
+  public void testIndexesFollowRemovals() {
+    AbstractSystemOfUnits local = new AbstractSystemOfUnits() {
+      @Override
+      public String getName() {
+        return "Local";
+      }
+    };
+    Helper.addUnit(local.units, METRE.multiply(3), "Triple metre", "tm");
+    local.units.add(SECOND);
+    local.units.add(KILOGRAM);
+    for (Iterator<Unit<?>> i = local.getUnits().iterator(); i.hasNext();) {
+      if ("tm".equals(i.next().getSymbol()))
+        i.remove();
+    }
+    assertNull(local.getUnitBySymbol("tm"));
+    assertNull(local.getUnitByName("Triple metre"));
+    assertEquals(0, local.getUnits(QuantityDimension.LENGTH).size());
+    local.getUnits().retainAll(Collections.singleton(KILOGRAM));
+    assertEquals(0, local.getUnits(QuantityDimension.TIME).size());
+    assertTrue(local.getUnits().contains(KILOGRAM));
+    assertFalse(local.getUnits().contains(SECOND));
   }
 
   @Test
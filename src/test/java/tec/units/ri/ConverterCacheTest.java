@@ -0,0 +1,102 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri;
+
+import static org.junit.Assert.*;
+import static tec.units.ri.unit.MetricPrefix.*;
+import static tec.units.ri.unit.Units.*;
+
+import javax.measure.UnitConverter;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import tec.units.ri.function.MultiplyConverter;
+import tec.units.ri.spi.DimensionalModel;
+
+public class ConverterCacheTest {
+
+  private ConverterCache cache;
+
+  @Before
+  public void setUp() throws Exception {
+    cache = new ConverterCache(2);
+  }
+
+  @Test
+  public void testHitAndMiss() {
+    DimensionalModel model = DimensionalModel.current();
+    UnitConverter converter = new MultiplyConverter(1000);
+    assertNull(cache.get(KILO(METRE), METRE, model));
+    cache.put(KILO(METRE), METRE, model, converter);
+    assertSame(converter, cache.get(KILO(METRE), METRE, model));
+    assertNull(cache.get(METRE, KILO(METRE), model));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+  }
+
+  @Test
+  public void testEviction() {
+    DimensionalModel model = DimensionalModel.current();
+    cache.put(KILO(METRE), METRE, model, new MultiplyConverter(1000));
+    cache.put(CENTI(METRE), METRE, model, new MultiplyConverter(0.01));
+    cache.get(KILO(METRE), METRE, model); // Most recently used.
+    cache.put(MILLI(METRE), METRE, model, new MultiplyConverter(0.001));
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    assertNotNull(cache.get(KILO(METRE), METRE, model));
+    assertNull(cache.get(CENTI(METRE), METRE, model));
+  }
+
+  @Test
+  public void testModelIndependentEntries() {
+    DimensionalModel model = DimensionalModel.current();
+    UnitConverter converter = new MultiplyConverter(1000);
+    cache.put(KILO(METRE), METRE, null, converter);
+    assertSame(converter, cache.get(KILO(METRE), METRE, null));
+    assertNull(cache.get(KILO(METRE), METRE, model));
+    cache.remove(model);
+    assertSame(converter, cache.get(KILO(METRE), METRE, null));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidCapacity() {
+    new ConverterCache(0);
+  }
+
+  @Test
+  public void testConverterToIsCached() {
+    UnitConverter first = KILO(GRAM).getConverterTo(MILLI(GRAM));
+    long hits = ConverterCache.getInstance().getHitCount();
+    UnitConverter second = KILO(GRAM).getConverterTo(MILLI(GRAM));
+    assertSame(first, second);
+    assertEquals(hits + 1, ConverterCache.getInstance().getHitCount());
+  }
+}
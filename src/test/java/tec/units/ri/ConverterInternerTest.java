@@ -0,0 +1,101 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri;
+
+import static org.junit.Assert.*;
+import static tec.units.ri.unit.MetricPrefix.*;
+import static tec.units.ri.unit.Units.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.measure.UnitConverter;
+
+import org.junit.Test;
+
+import tec.units.ri.function.AddConverter;
+import tec.units.ri.function.MultiplyConverter;
+import tec.units.ri.function.RationalConverter;
+
+public class ConverterInternerTest {
+
+  @Test
+  public void testIntern() {
+    MultiplyConverter first = ConverterInterner.intern(new MultiplyConverter(42));
+    assertSame(first, ConverterInterner.intern(new MultiplyConverter(42)));
+    assertNotSame(first, ConverterInterner.intern(new MultiplyConverter(43)));
+    assertSame(AbstractConverter.IDENTITY, ConverterInterner.intern(AbstractConverter.IDENTITY));
+    assertNull(ConverterInterner.intern(null));
+  }
+
+  @Test
+  public void testConcurrentIntern() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Callable<UnitConverter> task = new Callable<UnitConverter>() {
+        public UnitConverter call() {
+          UnitConverter canonical = null;
+          for (int i = 0; i < 1000; i++) {
+            canonical = ConverterInterner.intern(new AddConverter(-1234.5));
+          }
+          return canonical;
+        }
+      };
+      Future<UnitConverter> first = executor.submit(task);
+      Future<UnitConverter> second = executor.submit(task);
+      assertSame(first.get(), second.get());
+      assertSame(first.get(), ConverterInterner.intern(new AddConverter(-1234.5)));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testConcatenationIsInterned() {
+    UnitConverter milli = MILLI(METRE).getConverterTo(METRE);
+    UnitConverter kiloToMicro = RationalConverter.of(1000, 1).concatenate(RationalConverter.of(1, 1000000));
+    assertSame(milli, kiloToMicro);
+  }
+
+  @Test
+  public void testShiftIsInterned() {
+    AbstractUnit<?> first = (AbstractUnit<?>) KELVIN.shift(12.5);
+    AbstractUnit<?> second = (AbstractUnit<?>) KELVIN.shift(12.5);
+    assertSame(first.getSystemConverter().inverse(), second.getSystemConverter().inverse());
+    assertEquals(new AddConverter(12.5), first.getSystemConverter());
+  }
+
+  @Test
+  public void testRationalHashCode() {
+    assertFalse(RationalConverter.of(1, 10).hashCode() == RationalConverter.of(1, 1000).hashCode());
+  }
+}
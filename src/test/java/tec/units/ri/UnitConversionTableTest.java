@@ -0,0 +1,191 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri;
+
+import static org.junit.Assert.*;
+import static tec.units.ri.unit.Units.*;
+
+import javax.measure.Dimension;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+
+import org.junit.Test;
+
+import tec.units.ri.quantity.QuantityDimension;
+import tec.units.ri.spi.DimensionalModel;
+import tec.units.ri.unit.Units;
+
+public class UnitConversionTableTest {
+  private final UnitConversionTable table = ((AbstractSystemOfUnits) Units.getInstance()).getConversionTable();
+
+  @Test
+  public void testIds() {
+    int second = table.getId(SECOND);
+    assertTrue(second >= 0);
+    assertEquals(SECOND, table.getUnit(second));
+    assertEquals(Units.getInstance().getUnits().size(), table.size());
+    assertSame(table, ((AbstractSystemOfUnits) Units.getInstance()).getConversionTable());
+  }
+
+  @Test
+  public void testLinearConversion() {
+    int kilogram = table.getId(KILOGRAM);
+    int gram = table.getId(GRAM);
+    assertEquals(1500, table.convert(1.5, kilogram, gram), 1e-12);
+    assertEquals(1.5, table.convert(1500, gram, kilogram), 1e-12);
+    assertEquals(7, table.convert(7, gram, gram), 0);
+    double[] values = { 1, 2 };
+    table.convert(values, kilogram, gram);
+    assertArrayEquals(new double[] { 1000, 2000 }, values, 1e-9);
+  }
+
+  @Test
+  public void testAffineConversion() {
+    int kelvin = table.getId(KELVIN);
+    int celsius = table.getId(CELSIUS);
+    assertEquals(0, table.convert(273.15, kelvin, celsius), 1e-9);
+    assertEquals(373.15, table.convert(100, celsius, kelvin), 1e-9);
+    assertEquals(CELSIUS.getConverterTo(KELVIN).convert(-40), table.convert(-40, celsius, kelvin), 1e-12);
+  }
+
+  @Test
+  public void testIncompatibleUnits() {
+    int metre = table.getId(METRE);
+    int second = table.getId(SECOND);
+    assertFalse(table.isConvertible(metre, second));
+    assertTrue(table.isConvertible(metre, metre));
+    try {
+      table.convert(1, metre, second);
+      fail("Expected UnconvertibleException");
+    } catch (UnconvertibleException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testUnknownUnit() {
+    assertEquals(-1, table.getId(METRE.multiply(3)));
+  }
+
+  @Test
+  public void testNonLinearConversion() {
+    TestSystem system = new TestSystem();
+    Unit<Length> wiggly = METRE.transform(new WiggleConverter(0.5));
+    system.units.add(METRE);
+    system.units.add(wiggly);
+    UnitConversionTable wiggles = system.getConversionTable();
+    assertFalse(wiggles.isConvertible(wiggles.getId(wiggly), wiggles.getId(METRE)));
+    assertFalse(wiggles.isConvertible(wiggles.getId(METRE), wiggles.getId(wiggly)));
+  }
+
+  @Test
+  public void testRebuiltAfterRemoveAndAdd() {
+    TestSystem system = new TestSystem();
+    system.units.add(METRE);
+    system.units.add(SECOND);
+    UnitConversionTable before = system.getConversionTable();
+    system.units.remove(SECOND);
+    system.units.add(KILOGRAM);
+    UnitConversionTable after = system.getConversionTable();
+    assertNotSame(before, after);
+    assertEquals(-1, after.getId(SECOND));
+    assertTrue(after.getId(KILOGRAM) >= 0);
+    assertSame(after, system.getConversionTable());
+  }
+
+  @Test
+  public void testUnsupportedDimensionalTransform() {
+    TestSystem system = new TestSystem();
+    Unit<Length> alternate = METRE.alternate("xm");
+    system.units.add(METRE);
+    system.units.add(alternate);
+    DimensionalModel model = new DimensionalModel() {
+      @Override
+      public UnitConverter getDimensionalTransform(Dimension dimension) {
+        if (dimension.equals(QuantityDimension.LENGTH))
+          throw new UnsupportedOperationException("Non-linear transform");
+        return super.getDimensionalTransform(dimension);
+      }
+    };
+    try (DimensionalModel.Scope scope = DimensionalModel.enter(model)) {
+      UnitConversionTable scoped = system.getConversionTable();
+      assertFalse(scoped.isConvertible(scoped.getId(alternate), scoped.getId(METRE)));
+      assertTrue(scoped.isConvertible(scoped.getId(METRE), scoped.getId(METRE)));
+    }
+    UnitConversionTable standard = system.getConversionTable();
+    assertTrue(standard.isConvertible(standard.getId(alternate), standard.getId(METRE)));
+    assertSame(standard, system.getConversionTable());
+  }
+
+  private static final class TestSystem extends AbstractSystemOfUnits {
+    @Override
+    public String getName() {
+      return "Test";
+    }
+  }
+
+  /**
+   * A non-linear converter which is exactly affine at 0, 1 and 2.
+   */
+  private static final class WiggleConverter extends AbstractConverter {
+    private final double amplitude;
+
+    WiggleConverter(double amplitude) {
+      this.amplitude = amplitude;
+    }
+
+    @Override
+    public double convert(double value) {
+      return value + amplitude * Math.sin(Math.PI * value);
+    }
+
+    @Override
+    public AbstractConverter inverse() {
+      return new WiggleConverter(-amplitude);
+    }
+
+    @Override
+    public boolean isLinear() {
+      return false;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return (obj instanceof WiggleConverter) && (((WiggleConverter) obj).amplitude == amplitude);
+    }
+
+    @Override
+    public int hashCode() {
+      return Double.valueOf(amplitude).hashCode();
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.function;
+
+import static org.junit.Assert.*;
+
+import javax.measure.UnitConverter;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import tec.units.ri.AbstractConverter;
+
+public class AffineConverterTest {
+
+  private AffineConverter converter;
+
+  @Before
+  public void setUp() throws Exception {
+    converter = new AffineConverter(2, 10);
+  }
+
+  @Test
+  public void testConvertMethod() {
+    assertEquals(210, converter.convert(100), 0);
+    assertEquals(10, converter.convert(0), 0);
+    assertEquals(-190, converter.convert(-100), 0);
+  }
+
+  @Test
+  public void testEqualityOfTwoConverter() {
+    assertFalse(converter.equals(null));
+    assertEquals(new AffineConverter(2, 10), converter);
+    assertEquals(new AffineConverter(2, 10).hashCode(), converter.hashCode());
+  }
+
+  @Test
+  public void testEqualsConsistentWithHashCode() {
+    AffineConverter nan = new AffineConverter(2, Double.NaN);
+    assertEquals(nan, new AffineConverter(2, Double.NaN));
+    assertEquals(nan.hashCode(), new AffineConverter(2, Double.NaN).hashCode());
+    assertFalse(new AffineConverter(2, 0.0).equals(new AffineConverter(2, -0.0)));
+    assertEquals(new AddConverter(Double.NaN), new AddConverter(Double.NaN));
+    assertFalse(new MultiplyConverter(0.0).equals(new MultiplyConverter(-0.0)));
+  }
+
+  @Test
+  public void inverseTest() {
+    assertEquals(new AffineConverter(0.5, -5), converter.inverse());
+    assertEquals(100, converter.inverse().convert(converter.convert(100)), 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void identityTest() {
+    @SuppressWarnings("unused")
+    AffineConverter identConverter = new AffineConverter(1, 0);
+  }
+
+  @Test
+  public void isLinearTest() {
+    assertFalse(converter.isLinear());
+  }
+
+  @Test
+  public void toStringTest() {
+    assertEquals("AffineConverter(2.0,10.0)", converter.toString());
+  }
+
+  @Test
+  public void ofTest() {
+    assertEquals(AbstractConverter.IDENTITY, AffineConverter.of(1, 0));
+    assertEquals(new MultiplyConverter(2), AffineConverter.of(2, 0));
+    assertEquals(new AddConverter(10), AffineConverter.of(1, 10));
+    assertEquals(converter, AffineConverter.of(2, 10));
+  }
+
+  @Test
+  public void foldTest() {
+    UnitConverter folded = new AddConverter(32).concatenate(new RationalConverter(9, 5)).concatenate(new AddConverter(-273.15));
+    assertEquals(AffineConverter.class, folded.getClass());
+    assertEquals(1, folded.getConversionSteps().size());
+    assertEquals(212, folded.convert(373.15), 1e-12);
+  }
+
+  @Test
+  public void foldRationalTest() {
+    assertEquals(new RationalConverter(1, 1000), AffineConverter.fold(new RationalConverter(1, 10), new RationalConverter(1, 100)));
+    assertEquals(new MultiplyConverter(5), AffineConverter.fold(new RationalConverter(1, 2), new MultiplyConverter(10)));
+    assertEquals(AbstractConverter.IDENTITY, AffineConverter.fold(new PiMultiplierConverter(), new PiMultiplierConverter().inverse()));
+    assertNull(AffineConverter.fold(new LogConverter(10), new MultiplyConverter(10)));
+  }
+
+  @Test
+  public void foldMixedChainTest() {
+    UnitConverter chain = new MultiplyConverter(2).concatenate(new LogConverter(10)).concatenate(new MultiplyConverter(10)).concatenate(
+        new MultiplyConverter(10));
+    assertEquals(3, chain.getConversionSteps().size());
+    assertEquals(6, chain.convert(10), 1e-12);
+  }
+}
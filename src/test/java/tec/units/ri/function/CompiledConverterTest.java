@@ -0,0 +1,147 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.function;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import javax.measure.UnitConverter;
+
+import org.junit.Test;
+
+import tec.units.ri.AbstractConverter;
+
+public class CompiledConverterTest {
+
+  @Test
+  public void testCompileChain() {
+    UnitConverter chain = new MultiplyConverter(100).concatenate(new LogConverter(10)).concatenate(new AddConverter(-273.15));
+    CompiledConverter compiled = CompiledConverter.of(chain);
+    for (double value = 300; value < 1000; value += 37.5) {
+      assertEquals(chain.convert(value), compiled.convert(value), 0);
+    }
+  }
+
+  @Test
+  public void testCompileLeaves() {
+    UnitConverter[] converters = { RationalConverter.of(3, 7), new PiMultiplierConverter(), new PiDivisorConverter(), new AffineConverter(1.8, 32),
+        new ExpConverter(2), AbstractConverter.IDENTITY };
+    for (UnitConverter converter : converters) {
+      assertEquals(converter.convert(2.5), CompiledConverter.of(converter).convert(2.5), 0);
+    }
+  }
+
+  @Test
+  public void testCompileNonLinearPair() {
+    UnitConverter converter = new AbstractConverter.Pair(new LogConverter(2), new ExpConverter(3));
+    assertEquals(converter.convert(4), CompiledConverter.of(converter).convert(4), 0);
+  }
+
+  @Test
+  public void testCompileBulk() {
+    UnitConverter chain = new ExpConverter(2).concatenate(new AffineConverter(1.8, 32)).concatenate(new LogConverter(10)).concatenate(
+        new PiDivisorConverter());
+    CompiledConverter compiled = CompiledConverter.of(chain);
+    double[] values = new double[100];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = 1 + i * 0.75;
+    }
+    double[] result = new double[values.length + 1];
+    compiled.convert(values, 0, result, 1, values.length);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(chain.convert(values[i]), result[i + 1], 0);
+    }
+    compiled.convert(values);
+    assertArrayEquals(values, Arrays.copyOfRange(result, 1, result.length), 0);
+  }
+
+  @Test
+  public void testCompileUnknownStep() {
+    AbstractConverter unknown = new AbstractConverter() {
+      @Override
+      public double convert(double value) {
+        return Math.sqrt(value);
+      }
+
+      @Override
+      public AbstractConverter inverse() {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public boolean equals(Object cvtr) {
+        return this == cvtr;
+      }
+
+      @Override
+      public int hashCode() {
+        return 0;
+      }
+
+      public boolean isLinear() {
+        return false;
+      }
+    };
+    UnitConverter converter = new AbstractConverter.Pair(new MultiplyConverter(3), unknown);
+    CompiledConverter compiled = CompiledConverter.of(converter);
+    assertEquals(6, compiled.convert(4), 0);
+    double[] values = { 4, 9 };
+    compiled.convert(values);
+    assertArrayEquals(new double[] { 6, 9 }, values, 0);
+  }
+
+  @Test
+  public void testCompileIdentity() {
+    assertTrue(CompiledConverter.of(AbstractConverter.IDENTITY).isIdentity());
+    assertEquals(2.5, CompiledConverter.of(AbstractConverter.IDENTITY).convert(2.5), 0);
+  }
+
+  @Test
+  public void testInverse() {
+    UnitConverter converter = new AffineConverter(1.8, 32);
+    CompiledConverter compiled = CompiledConverter.of(converter);
+    assertEquals(100, compiled.inverse().convert(compiled.convert(100)), 1e-12);
+  }
+
+  @Test
+  public void testEquals() {
+    UnitConverter converter = new MultiplyConverter(2);
+    CompiledConverter compiled = CompiledConverter.of(converter);
+    assertEquals(CompiledConverter.of(converter), compiled);
+    assertSame(compiled, CompiledConverter.of(compiled));
+    assertEquals(converter, compiled.getSource());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNull() {
+    CompiledConverter.of(null);
+  }
+}
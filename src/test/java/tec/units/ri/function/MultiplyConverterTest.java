@@ -84,6 +84,24 @@ public class MultiplyConverterTest {
     assertEquals(Double.valueOf(2), converter.getValue());
   }
 
+  @Test
+  public void bulkConvertTest() {
+    double[] values = { 1, 2, 3, 4 };
+    double[] result = new double[5];
+    converter.convert(values, 1, result, 2, 3);
+    assertArrayEquals(new double[] { 0, 0, 4, 6, 8 }, result, 0);
+    converter.convert(values);
+    assertArrayEquals(new double[] { 2, 4, 6, 8 }, values, 0);
+    float[] floats = { 1, 2 };
+    converter.convert(floats);
+    assertArrayEquals(new float[] { 2, 4 }, floats, 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void bulkConvertOutOfRangeTest() {
+    converter.convert(new double[3], 1, new double[3], 0, 3);
+  }
+
   @Test
   public void toStringTest() {
     assertEquals("MultiplyConverter(2.0)", converter.toString());
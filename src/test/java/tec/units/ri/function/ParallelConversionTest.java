@@ -0,0 +1,110 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.function;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.measure.UnitConverter;
+
+import org.junit.Test;
+
+public class ParallelConversionTest {
+
+  private final UnitConverter converter = new AffineConverter(1.8, 32).concatenate(new LogConverter(10));
+
+  private static double[] values(int len) {
+    double[] values = new double[len];
+    for (int i = 0; i < len; i++) {
+      values[i] = i + 1;
+    }
+    return values;
+  }
+
+  @Test
+  public void testConvertArray() {
+    ParallelConversion parallel = new ParallelConversion(new ForkJoinPool(4), 100);
+    double[] src = values(1000);
+    double[] dst = new double[1010];
+    parallel.convert(converter, src, 0, dst, 10, src.length);
+    for (int i = 0; i < src.length; i++) {
+      assertEquals(converter.convert(src[i]), dst[10 + i], 0);
+    }
+  }
+
+  @Test
+  public void testConvertInPlace() {
+    double[] values = values(1000);
+    new ParallelConversion(64).convert(RationalConverter.of(1, 1000), values);
+    assertEquals(0.001, values[0], 0);
+    assertEquals(1, values[999], 0);
+    float[] floats = { 1, 2, 3 };
+    ParallelConversion.getInstance().convert(new MultiplyConverter(2), floats);
+    assertArrayEquals(new float[] { 2, 4, 6 }, floats, 0);
+  }
+
+  @Test
+  public void testConvertDirectBuffer() {
+    DoubleBuffer src = DoubleBuffer.wrap(values(1000));
+    DoubleBuffer dst = ByteBuffer.allocateDirect(1000 * 8).asDoubleBuffer();
+    new ParallelConversion(100).convert(converter, src, dst);
+    assertEquals(0, src.remaining());
+    assertEquals(0, dst.remaining());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(converter.convert(i + 1), dst.get(i), 0);
+    }
+  }
+
+  @Test
+  public void testConvertByteBuffer() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(1000 * 8).order(ByteOrder.LITTLE_ENDIAN);
+    for (int i = 0; i < 1000; i++) {
+      buffer.putDouble(i + 1);
+    }
+    buffer.flip();
+    new ParallelConversion(100).convert(converter, buffer, buffer);
+    assertEquals(1000 * 8, buffer.position());
+    assertEquals(converter.convert(1000), buffer.getDouble(999 * 8), 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testInvalidRange() {
+    ParallelConversion.getInstance().convert(converter, new double[10], 5, new double[10], 0, 6);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidThreshold() {
+    new ParallelConversion(0);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.function;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+
+import javax.measure.UnitConverter;
+
+import org.junit.Test;
+
+import tec.units.ri.AbstractConverter;
+
+public class RationalConverterTest {
+
+  @Test
+  public void testConvert() {
+    RationalConverter converter = RationalConverter.of(3, 4);
+    assertEquals(7.5, converter.convert(10d), 0);
+    assertEquals(7L, converter.convert(10L));
+    assertEquals(-7L, converter.convert(-10L));
+  }
+
+  @Test
+  public void testConvertLongIntermediateOverflow() {
+    RationalConverter converter = RationalConverter.of(1000, 1001);
+    assertEquals(Long.MAX_VALUE / 1001 * 1000, converter.convert(Long.MAX_VALUE / 1001 * 1001));
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testConvertLongOverflow() {
+    RationalConverter.of(1000, 1).convert(Long.MAX_VALUE / 10);
+  }
+
+  @Test
+  public void testDoubleConstructorIsExact() {
+    assertEquals(RationalConverter.of(1, 4), new RationalConverter(0.25, 1d));
+    assertEquals(RationalConverter.of(1000, 1), RationalConverter.of(1000d, 1d));
+  }
+
+  @Test
+  public void testConcatenate() {
+    UnitConverter result = RationalConverter.of(1, 1000).concatenate(RationalConverter.of(1000, 1));
+    assertEquals(AbstractConverter.IDENTITY, result);
+    assertEquals(RationalConverter.of(2, 3), RationalConverter.of(4, 9).concatenate(RationalConverter.of(3, 2)));
+  }
+
+  @Test
+  public void testConcatenatePromotesToBigInteger() {
+    RationalConverter exa = RationalConverter.of(1000000000000000000L, 1);
+    UnitConverter result = exa.concatenate(exa);
+    assertEquals(RationalConverter.of(BigInteger.TEN.pow(36), BigInteger.ONE), result);
+    assertEquals(1e36, result.convert(1), 1e21);
+    assertEquals(AbstractConverter.IDENTITY, result.concatenate(result.inverse()));
+  }
+
+  @Test
+  public void testInverse() {
+    assertEquals(RationalConverter.of(-4, 3), RationalConverter.of(-3, 4).inverse());
+  }
+
+  @Test
+  public void testEqualsHashCode() {
+    RationalConverter a = RationalConverter.of(2, 3);
+    RationalConverter b = RationalConverter.of(BigInteger.valueOf(2), BigInteger.valueOf(3));
+    assertEquals(a, b);
+    assertEquals(a.hashCode(), b.hashCode());
+    assertFalse(a.equals(RationalConverter.of(3, 2)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeDivisor() {
+    RationalConverter.of(1, -2);
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals("RationalConverter(1,1000)", RationalConverter.of(1, 1000).toString());
+  }
+}
@@ -33,6 +33,14 @@ import static org.junit.Assert.*;
 import static tec.units.ri.unit.MetricPrefix.*;
 import static tec.units.ri.unit.Units.*;
 
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
 import javax.measure.Quantity;
 import javax.measure.Unit;
 import javax.measure.UnitConverter;
@@ -41,6 +49,7 @@ import javax.measure.quantity.Temperature;
 
 import org.junit.Test;
 
+import tec.units.ri.AbstractConverter;
 import tec.units.ri.quantity.Quantities;
 import tec.units.ri.unit.Units;
 
@@ -73,6 +82,86 @@ public class UnitConverterTest {
     assertEquals(targetUnit, quantResult1.getUnit());
   }
 
+  @Test
+  public void testBulkPair() {
+    AbstractConverter converter = (AbstractConverter) new LogConverter(10).concatenate(new MultiplyConverter(10)).concatenate(new AddConverter(5));
+    double[] values = { 0.5, 5, 95 };
+    double[] result = new double[values.length];
+    converter.convert(values, 0, result, 0, values.length);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(converter.convert(values[i]), result[i], 1e-12);
+    }
+  }
+
+  @Test
+  public void testBulkPairFloat() {
+    AbstractConverter converter = (AbstractConverter) new ExpConverter(Math.E).concatenate(new LogConverter(Math.E));
+    float[] values = new float[1000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (float) Math.pow(1.1, i - 500);
+    }
+    float[] result = values.clone();
+    converter.convert(result);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals((float) converter.convert((double) values[i]), result[i], 0); // Intermediate values kept in double precision.
+    }
+  }
+
+  @Test
+  public void testInverseIsCached() {
+    AbstractConverter[] converters = { RationalConverter.of(1, 1000), new MultiplyConverter(2), new AddConverter(3), new AffineConverter(1.8, 32),
+        new LogConverter(10), new ExpConverter(2), new PiMultiplierConverter(), new PiDivisorConverter(),
+        (AbstractConverter) new LogConverter(10).concatenate(new AddConverter(5)) };
+    for (AbstractConverter converter : converters) {
+      UnitConverter inverse = converter.inverse();
+      assertSame(inverse, converter.inverse());
+      assertSame(converter, inverse.inverse());
+    }
+  }
+
+  @Test
+  public void testDoubleBuffer() {
+    AbstractConverter converter = (AbstractConverter) CELSIUS.getConverterTo(KELVIN);
+    DoubleBuffer src = ByteBuffer.allocateDirect(3 * 8).asDoubleBuffer().put(new double[] { -273.15, 0, 100 });
+    src.flip();
+    DoubleBuffer dst = DoubleBuffer.allocate(4);
+    dst.position(1);
+    converter.convert(src, dst);
+    assertEquals(3, src.position());
+    assertEquals(4, dst.position());
+    assertArrayEquals(new double[] { 0, 0, 273.15, 373.15 }, dst.array(), 1e-12);
+  }
+
+  @Test
+  public void testByteBufferInPlace() {
+    AbstractConverter converter = (AbstractConverter) KILO(METRE).getConverterTo(METRE);
+    ByteBuffer buffer = ByteBuffer.allocate(2 * 8 + 3).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putDouble(1.5).putDouble(-2).put((byte) 1).flip();
+    converter.convert(buffer, buffer);
+    assertEquals(16, buffer.position());
+    assertEquals(1500, buffer.getDouble(0), 0);
+    assertEquals(-2000, buffer.getDouble(8), 0);
+  }
+
+  @Test
+  public void testMappedByteBuffer() throws Exception {
+    File file = File.createTempFile("readings", ".bin");
+    file.deleteOnExit();
+    RandomAccessFile raf = new RandomAccessFile(file, "rw");
+    try {
+      MappedByteBuffer mapped = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, 100 * 8);
+      mapped.order(ByteOrder.LITTLE_ENDIAN);
+      for (int i = 0; i < 100; i++) {
+        mapped.putDouble(i * 8, i);
+      }
+      ((AbstractConverter) MILLI(METRE).getConverterTo(METRE)).convert(mapped, mapped);
+      assertEquals(0, mapped.remaining());
+      assertEquals(0.099, mapped.getDouble(99 * 8), 1e-15);
+    } finally {
+      raf.close();
+    }
+  }
+
   @Test
   public void testKelvinToCelsius() {
     Quantity<Temperature> sut = Quantities.getQuantity(273.15d, Units.KELVIN).to(Units.CELSIUS);
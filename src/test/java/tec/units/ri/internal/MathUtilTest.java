@@ -49,4 +49,15 @@ public class MathUtilTest {
     double result = MathUtil.atan2(value, value2);
     assertEquals(0.4636476090008061, result, 0);
   }
+
+  @Test
+  public void testGcdLong() {
+    assertEquals(6L, MathUtil.gcd(-12L, 18L));
+    assertEquals(7L, MathUtil.gcd(7L, 0L));
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testMultiplyExactOverflow() {
+    MathUtil.multiplyExact(Long.MAX_VALUE / 2, 3L);
+  }
 }
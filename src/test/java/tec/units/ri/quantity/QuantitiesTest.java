@@ -32,11 +32,20 @@ package tec.units.ri.quantity;
 import org.junit.Assert;
 import org.junit.Test;
 
+import tec.units.ri.function.ExpConverter;
 import tec.units.ri.quantity.NumberQuantity;
 import tec.units.ri.unit.Units;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Mass;
 import javax.measure.quantity.Pressure;
+import javax.measure.quantity.Temperature;
 import javax.measure.quantity.Time;
 
 import static org.junit.Assert.*;
@@ -70,4 +79,53 @@ public class QuantitiesTest {
     Double value = (Double) second.getValue();
     Assert.assertEquals(Double.valueOf(365.2425 * 24 * 3600), value);
   }
+
+  @Test
+  public void testSumByUnit() {
+    List<Quantity<Mass>> parcels = new ArrayList<Quantity<Mass>>();
+    for (int i = 0; i < 1000; i++) {
+      parcels.add(Quantities.getQuantity(500, Units.GRAM));
+      parcels.add(Quantities.getQuantity(1.5d, Units.KILOGRAM));
+      parcels.add(Quantities.getQuantity(250L, Units.GRAM));
+    }
+    Quantity<Mass> total = Quantities.sum(parcels, Units.KILOGRAM);
+    assertEquals(Units.KILOGRAM, total.getUnit());
+    assertEquals(2250, total.getValue().doubleValue(), 1e-9);
+    assertEquals(0, Quantities.sum(new ArrayList<Quantity<Mass>>(), Units.GRAM).getValue().doubleValue(), 0);
+  }
+
+  @Test
+  public void testSumExact() {
+    List<Quantity<Mass>> parcels = new ArrayList<Quantity<Mass>>();
+    parcels.add(Quantities.getQuantity(Long.MAX_VALUE, Units.GRAM));
+    parcels.add(Quantities.getQuantity(Long.MAX_VALUE, Units.GRAM));
+    parcels.add(Quantities.getQuantity(2, Units.GRAM));
+    Quantity<Mass> total = Quantities.sum(parcels, Units.GRAM);
+    assertEquals(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1).add(BigInteger.valueOf(2)), total.getValue());
+    assertEquals(Long.valueOf(9007199254740993L),
+        Quantities.sum(Arrays.asList(Quantities.getQuantity(9007199254740992L, Units.GRAM), Quantities.getQuantity(1, Units.GRAM)), Units.GRAM)
+            .getValue());
+  }
+
+  @Test
+  public void testSumAffine() {
+    List<Quantity<Temperature>> temperatures = new ArrayList<Quantity<Temperature>>();
+    temperatures.add(Quantities.getQuantity(10, Units.CELSIUS));
+    temperatures.add(Quantities.getQuantity(20d, Units.CELSIUS));
+    temperatures.add(Quantities.getQuantity(300d, Units.KELVIN));
+    Quantity<Temperature> total = Quantities.sum(temperatures, Units.KELVIN);
+    assertEquals(283.15 + 293.15 + 300, total.getValue().doubleValue(), 1e-9);
+  }
+
+  @Test
+  public void testSumNonLinear() {
+    Unit<Temperature> decades = Units.KELVIN.transform(new ExpConverter(10)); // 2 decades = 100 K
+    List<Quantity<Temperature>> temperatures = new ArrayList<Quantity<Temperature>>();
+    temperatures.add(Quantities.getQuantity(2d, decades));
+    temperatures.add(Quantities.getQuantity(50d, Units.KELVIN));
+    temperatures.add(Quantities.getQuantity(3d, decades));
+    temperatures.add(Quantities.getQuantity(1, decades));
+    Quantity<Temperature> total = Quantities.sum(temperatures, Units.KELVIN);
+    assertEquals(100 + 50 + 1000 + 10, total.getValue().doubleValue(), 1e-9);
+  }
 }
\ No newline at end of file
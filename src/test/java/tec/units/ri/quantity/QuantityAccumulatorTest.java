@@ -0,0 +1,100 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.quantity;
+
+import static org.junit.Assert.*;
+import static tec.units.ri.unit.Units.*;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Mass;
+import javax.measure.quantity.Temperature;
+
+import org.junit.Test;
+
+import tec.units.ri.function.LogConverter;
+
+public class QuantityAccumulatorTest {
+
+  @Test
+  public void testMixedUnits() {
+    QuantityAccumulator<Mass> total = new QuantityAccumulator<Mass>(KILOGRAM);
+    total.add(Quantities.getQuantity(500, GRAM)).add(Quantities.getQuantity(2d, KILOGRAM)).add(250, GRAM);
+    assertEquals(3, total.getCount());
+    assertEquals(2.75, total.doubleValue(), 1e-12);
+    assertEquals(Quantities.getQuantity(2.75d, KILOGRAM), total.getQuantity());
+    total.reset();
+    assertEquals(0, total.getCount());
+    assertEquals(0, total.doubleValue(), 0);
+  }
+
+  @Test
+  public void testCompensatedSummation() {
+    QuantityAccumulator<Mass> total = new QuantityAccumulator<Mass>(KILOGRAM);
+    total.add(1e16).add(1).add(-1e16);
+    assertEquals(1, total.doubleValue(), 0);
+    QuantityAccumulator<Mass> small = new QuantityAccumulator<Mass>(KILOGRAM);
+    for (int i = 0; i < 1000000; i++) {
+      small.add(0.1);
+    }
+    assertEquals(100000, small.doubleValue(), 0);
+  }
+
+  @Test
+  public void testMerge() {
+    QuantityAccumulator<Mass> kg = new QuantityAccumulator<Mass>(KILOGRAM).add(1).add(2);
+    QuantityAccumulator<Mass> g = new QuantityAccumulator<Mass>(GRAM).add(500).add(250);
+    kg.add(g);
+    assertEquals(3.75, kg.doubleValue(), 1e-12);
+    assertEquals(4, kg.getCount());
+  }
+
+  @Test
+  public void testAffineMerge() {
+    QuantityAccumulator<Temperature> kelvin = new QuantityAccumulator<Temperature>(KELVIN);
+    QuantityAccumulator<Temperature> celsius = new QuantityAccumulator<Temperature>(CELSIUS).add(10).add(20);
+    kelvin.add(celsius);
+    assertEquals(283.15 + 293.15, kelvin.doubleValue(), 1e-9);
+    assertEquals(kelvin.doubleValue(), new QuantityAccumulator<Temperature>(KELVIN).add(10, CELSIUS).add(20, CELSIUS).doubleValue(), 1e-9);
+  }
+
+  @Test
+  public void testNonLinearMerge() {
+    Unit<Temperature> logKelvin = KELVIN.transform(new LogConverter(10));
+    QuantityAccumulator<Temperature> kelvin = new QuantityAccumulator<Temperature>(KELVIN).add(2, logKelvin);
+    assertEquals(Math.log10(2), kelvin.doubleValue(), 1e-12); // Single values are converted.
+    try {
+      kelvin.add(new QuantityAccumulator<Temperature>(logKelvin).add(1).add(2));
+      fail("Sum of logarithmic values merged");
+    } catch (UnsupportedOperationException e) {
+      assertEquals(1, kelvin.getCount());
+      assertEquals(Math.log10(2), kelvin.doubleValue(), 1e-12);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.quantity;
+
+import static org.junit.Assert.*;
+import static tec.units.ri.unit.MetricPrefix.*;
+import static tec.units.ri.unit.Units.*;
+
+import java.util.List;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Mass;
+
+import org.junit.Test;
+
+public class QuantityArrayTest {
+
+  @Test
+  public void testTo() {
+    QuantityArray<Length> km = QuantityArray.of(new double[] { 1.5, 2, 42 }, KILO(METRE));
+    QuantityArray<Length> m = km.to(METRE);
+    assertEquals(METRE, m.getUnit());
+    assertArrayEquals(new double[] { 1500, 2000, 42000 }, m.toDoubleArray(), 1e-9);
+    assertSame(km, km.to(KILO(METRE)));
+  }
+
+  @Test
+  public void testDefensiveCopy() {
+    double[] values = { 1, 2 };
+    QuantityArray<Length> array = QuantityArray.of(values, METRE);
+    values[0] = 5;
+    assertEquals(1, array.doubleValue(0), 0);
+    array.toDoubleArray()[1] = 7;
+    assertEquals(2, array.doubleValue(1), 0);
+  }
+
+  @Test
+  public void testAddSubtract() {
+    QuantityArray<Length> m = QuantityArray.of(new double[] { 1, 2 }, METRE);
+    QuantityArray<Length> cm = QuantityArray.of(new float[] { 50, 25 }, CENTI(METRE));
+    assertArrayEquals(new double[] { 1.5, 2.25 }, m.add(cm).toDoubleArray(), 1e-6);
+    assertArrayEquals(new double[] { 0.5, 1.75 }, m.subtract(cm).toDoubleArray(), 1e-6);
+    assertEquals(METRE, m.add(cm).getUnit());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSizeMismatch() {
+    QuantityArray.of(new double[] { 1, 2 }, METRE).add(QuantityArray.of(new double[] { 1 }, METRE));
+  }
+
+  @Test
+  public void testScalarArithmetic() {
+    QuantityArray<Length> m = QuantityArray.of(new double[] { 1, 2 }, METRE);
+    assertArrayEquals(new double[] { 3, 6 }, m.multiply(3).toDoubleArray(), 0);
+    assertArrayEquals(new double[] { 0.5, 1 }, m.divide(2).toDoubleArray(), 0);
+  }
+
+  @Test
+  public void testElementWiseArithmetic() {
+    QuantityArray<Length> m = QuantityArray.of(new double[] { 10, 20 }, METRE);
+    QuantityArray<?> speed = m.divide(QuantityArray.of(new double[] { 2, 5 }, SECOND));
+    assertEquals(METRE_PER_SECOND, speed.getUnit());
+    assertArrayEquals(new double[] { 5, 4 }, speed.toDoubleArray(), 0);
+    QuantityArray<?> area = m.multiply(m);
+    assertEquals(SQUARE_METRE, area.getUnit());
+    assertArrayEquals(new double[] { 100, 400 }, area.toDoubleArray(), 0);
+  }
+
+  @Test
+  public void testLongArithmetic() {
+    QuantityArray<Mass> kg = QuantityArray.of(new long[] { 1, 2 }, KILOGRAM);
+    QuantityArray<Mass> g = kg.to(GRAM);
+    assertEquals(Long.valueOf(2000), g.getValue(1));
+    QuantityArray<Mass> exact = QuantityArray.of(new long[] { 3, 4 }, GRAM).add(kg);
+    assertEquals(Long.valueOf(1003), exact.getValue(0));
+    QuantityArray<Mass> inexact = kg.add(QuantityArray.of(new long[] { 3, 4 }, GRAM));
+    assertEquals(Double.valueOf(1.003), inexact.getValue(0));
+    assertEquals(Long.valueOf(6), kg.multiply(3).getValue(1));
+    assertEquals(Double.valueOf(1), kg.divide(2).getValue(1));
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testLongOverflow() {
+    QuantityArray.of(new long[] { Long.MAX_VALUE }, GRAM).add(QuantityArray.of(new long[] { 1 }, GRAM));
+  }
+
+  @Test
+  public void testQuantityViews() {
+    QuantityArray<Length> m = QuantityArray.of(new double[] { 1, 2 }, METRE);
+    List<Quantity<Length>> list = m.asList();
+    assertEquals(2, list.size());
+    assertEquals(Quantities.getQuantity(2d, METRE), list.get(1));
+    assertEquals(Quantities.getQuantity(1d, METRE), m.get(0));
+  }
+
+  @Test
+  public void testEquals() {
+    assertEquals(QuantityArray.of(new double[] { 1, 2 }, METRE), QuantityArray.of(new double[] { 1, 2 }, METRE));
+    assertEquals(QuantityArray.of(new double[] { 1, 2 }, METRE).hashCode(), QuantityArray.of(new double[] { 1, 2 }, METRE).hashCode());
+    assertFalse(QuantityArray.of(new double[] { 1, 2 }, METRE).equals(QuantityArray.of(new double[] { 1, 2 }, SECOND)));
+    assertEquals("[1.0, 2.0] m", QuantityArray.of(new double[] { 1, 2 }, METRE).toString());
+  }
+}
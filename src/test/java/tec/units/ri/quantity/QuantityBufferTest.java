@@ -0,0 +1,216 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.quantity;
+
+import static org.junit.Assert.*;
+import static tec.units.ri.unit.MetricPrefix.*;
+import static tec.units.ri.unit.Units.*;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Mass;
+import javax.measure.quantity.Temperature;
+
+import org.junit.Test;
+
+public class QuantityBufferTest {
+
+  @Test
+  public void testMixedUnits() {
+    QuantityBuffer<Mass> buffer = QuantityBuffer.allocate(10, KILOGRAM);
+    buffer.add(12, GRAM);
+    buffer.add(3, KILOGRAM);
+    buffer.add(Quantities.getQuantity(500d, GRAM));
+    assertEquals(3, buffer.size());
+    assertEquals(10, buffer.capacity());
+    assertEquals(0.012, buffer.doubleValue(0), 1e-12);
+    assertEquals(3.512, buffer.sum(), 1e-12);
+    assertEquals(Quantities.getQuantity(12d, GRAM), buffer.get(0));
+    assertArrayEquals(new double[] { 0.012, 3, 0.5 }, buffer.toArray().toDoubleArray(), 1e-12);
+  }
+
+  @Test
+  public void testBulkOperations() {
+    QuantityBuffer<Length> buffer = QuantityBuffer.allocate(4, METRE);
+    buffer.add(1, KILO(METRE));
+    buffer.add(250, METRE);
+    QuantityBuffer<Length> km = buffer.to(KILO(METRE));
+    assertEquals(KILO(METRE), km.getUnit());
+    assertEquals(0.25, km.doubleValue(1), 1e-12);
+    buffer.normalize();
+    assertEquals(Quantities.getQuantity(1000d, METRE), buffer.get(0));
+    buffer.multiply(2);
+    assertEquals(2500, buffer.sum(), 1e-9);
+    buffer.divide(4);
+    assertEquals(625, buffer.sum(), 1e-9);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFull() {
+    QuantityBuffer<Length> buffer = QuantityBuffer.allocate(1, METRE);
+    buffer.add(1, METRE);
+    buffer.add(2, METRE);
+  }
+
+  @Test
+  public void testBufferArithmetic() {
+    QuantityBuffer<Length> buffer = QuantityBuffer.allocate(2, METRE);
+    buffer.add(1, KILO(METRE));
+    buffer.add(250, METRE);
+    QuantityBuffer<Length> other = QuantityBuffer.allocate(2, KILO(METRE));
+    other.add(500, METRE);
+    other.add(0.25, KILO(METRE));
+    buffer.add(other);
+    assertArrayEquals(new double[] { 1500, 500 }, buffer.toArray().toDoubleArray(), 1e-9);
+    buffer.subtract(other);
+    buffer.subtract(other);
+    assertArrayEquals(new double[] { 500, 0 }, buffer.toArray().toDoubleArray(), 1e-9);
+    assertEquals(Quantities.getQuantity(500d, METRE), buffer.get(0));
+  }
+
+  @Test
+  public void testAffineBufferArithmetic() {
+    QuantityBuffer<Temperature> buffer = QuantityBuffer.allocate(1, KELVIN);
+    buffer.add(10, CELSIUS);
+    QuantityBuffer<Temperature> other = QuantityBuffer.allocate(1, KELVIN);
+    other.add(5, KELVIN);
+    buffer.add(other);
+    assertEquals(288.15, buffer.doubleValue(0), 1e-9);
+  }
+
+  @Test
+  public void testAffineBufferScaling() {
+    QuantityBuffer<Temperature> buffer = QuantityBuffer.allocate(2, KELVIN);
+    buffer.add(10, CELSIUS);
+    buffer.add(300, KELVIN);
+    buffer.multiply(2);
+    assertEquals(566.3, buffer.doubleValue(0), 1e-9);
+    assertEquals(600, buffer.doubleValue(1), 1e-9);
+    assertEquals(KELVIN, buffer.get(0).getUnit());
+    buffer.divide(4);
+    assertEquals(141.575, buffer.doubleValue(0), 1e-9);
+    assertEquals(150, buffer.doubleValue(1), 1e-9);
+  }
+
+  @Test
+  public void testBulkOperationsOverMixedRuns() {
+    int size = 1500; // Spans several chunks.
+    QuantityBuffer<Length> buffer = QuantityBuffer.allocate(size, METRE);
+    double expected = 0;
+    for (int i = 0; i < size; i++) {
+      if ((i / 7) % 2 == 0) {
+        buffer.add(i, METRE);
+        expected += i;
+      } else {
+        buffer.add(i, KILO(METRE));
+        expected += i * 1000.0;
+      }
+    }
+    assertEquals(expected, buffer.sum(), 1e-6);
+    QuantityArray<Length> array = buffer.toArray();
+    QuantityBuffer<Length> km = buffer.to(KILO(METRE));
+    for (int i = 0; i < size; i++) {
+      assertEquals(buffer.doubleValue(i), array.get(i).getValue().doubleValue(), 1e-9);
+      assertEquals(buffer.doubleValue(i) / 1000, km.doubleValue(i), 1e-9);
+    }
+    buffer.normalize();
+    assertEquals(expected, buffer.sum(), 1e-6);
+    assertEquals(1000.0 * 7, buffer.doubleValue(7), 1e-9);
+    assertEquals(METRE, buffer.get(7).getUnit());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBufferSizeMismatch() {
+    QuantityBuffer<Length> buffer = QuantityBuffer.allocate(2, METRE);
+    buffer.add(1, METRE);
+    buffer.add(QuantityBuffer.allocate(2, METRE));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnitNotParsedBack() {
+    QuantityBuffer<Length> buffer = QuantityBuffer.allocate(1, METRE);
+    buffer.add(1, METRE.multiply(3048).divide(10000));
+  }
+
+  @Test
+  public void testInvalidHeader() {
+    ByteBuffer bytes = ByteBuffer.allocate(QuantityBuffer.bytesFor(4));
+    QuantityBuffer<Length> buffer = QuantityBuffer.of(bytes, METRE);
+    buffer.add(1, METRE);
+    assertInvalid(bytes, 8, 5); // Size greater than capacity.
+    assertInvalid(bytes, 8, -1); // Negative size.
+    bytes.putInt(8, 1);
+    assertInvalid(bytes, 12, 257); // Too many units.
+    assertInvalid(bytes, 12, 0); // Code out of dictionary.
+    bytes.putInt(12, 1);
+    assertInvalid(bytes, 4, Integer.MAX_VALUE); // Capacity exceeding the buffer.
+    bytes.putInt(4, 4);
+    assertEquals(1, QuantityBuffer.of(bytes, METRE).size());
+  }
+
+  private static void assertInvalid(ByteBuffer bytes, int offset, int value) {
+    bytes.putInt(offset, value);
+    try {
+      QuantityBuffer.of(bytes, METRE);
+      fail("Header value " + value + " at " + offset + " accepted");
+    } catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testMappedReopen() throws Exception {
+    File file = File.createTempFile("quantities", ".bin");
+    file.deleteOnExit();
+    int bytes = QuantityBuffer.bytesFor(100);
+    RandomAccessFile raf = new RandomAccessFile(file, "rw");
+    try {
+      FileChannel channel = raf.getChannel();
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+      QuantityBuffer<Mass> buffer = QuantityBuffer.of(mapped, KILOGRAM);
+      assertEquals(100, buffer.capacity());
+      buffer.add(12, GRAM);
+      buffer.add(3, KILOGRAM);
+      mapped.force();
+
+      QuantityBuffer<Mass> reopened = QuantityBuffer.of(channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes), GRAM);
+      assertEquals(2, reopened.size());
+      assertEquals(3012, reopened.sum(), 1e-9);
+      assertEquals(Quantities.getQuantity(3d, KILOGRAM), reopened.get(1));
+    } finally {
+      raf.close();
+    }
+  }
+}
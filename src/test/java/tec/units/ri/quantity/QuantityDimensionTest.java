@@ -0,0 +1,105 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.quantity;
+
+import static org.junit.Assert.*;
+import static tec.units.ri.quantity.QuantityDimension.*;
+
+import java.util.Map;
+
+import javax.measure.Dimension;
+
+import org.junit.Test;
+
+import tec.units.ri.unit.Units;
+
+public class QuantityDimensionTest {
+
+  @Test
+  public void testProductOfBaseDimensions() {
+    Dimension speed = LENGTH.divide(TIME);
+    assertEquals(speed, LENGTH.multiply(TIME.pow(-1)));
+    assertEquals(speed.hashCode(), LENGTH.multiply(TIME.pow(-1)).hashCode());
+    assertEquals(Units.METRE_PER_SECOND.getDimension(), speed);
+    assertEquals(NONE, speed.divide(speed));
+    assertFalse(LENGTH.equals(TIME));
+  }
+
+  @Test
+  public void testRationalExponents() {
+    Dimension area = LENGTH.pow(2);
+    assertEquals(LENGTH, area.root(2));
+    assertEquals(LENGTH, LENGTH.root(2).multiply(LENGTH.root(2)));
+    assertEquals(LENGTH.pow(3), LENGTH.pow(3).root(2).pow(2));
+    assertEquals(LENGTH.pow(-1), LENGTH.root(-1));
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testRootOfZero() {
+    LENGTH.root(0);
+  }
+
+  @Test
+  public void testBaseDimensions() {
+    assertNull(LENGTH.getBaseDimensions());
+    assertTrue(NONE.getBaseDimensions().isEmpty());
+    Map<? extends Dimension, Integer> baseDimensions = MASS.multiply(LENGTH.pow(2)).divide(TIME.pow(2)).getBaseDimensions();
+    assertEquals(3, baseDimensions.size());
+    assertEquals(Integer.valueOf(1), baseDimensions.get(MASS));
+    assertEquals(Integer.valueOf(2), baseDimensions.get(LENGTH));
+    assertEquals(Integer.valueOf(-2), baseDimensions.get(TIME));
+  }
+
+  @Test
+  public void testParse() {
+    assertEquals(LENGTH, parse('L'));
+    assertEquals(TEMPERATURE, parse('\u0398'));
+    assertEquals("[L]", LENGTH.toString());
+  }
+
+  @Test
+  public void testCustomDimension() {
+    Dimension custom = parse('X');
+    assertFalse(NONE.equals(custom));
+    assertEquals(custom, parse('X'));
+    assertNull(custom.getBaseDimensions());
+    Dimension product = custom.multiply(LENGTH);
+    assertEquals(product, LENGTH.multiply(custom));
+    assertEquals(LENGTH, product.divide(custom));
+    assertEquals(2, product.getBaseDimensions().size());
+  }
+
+  @Test
+  public void testExponentOverflow() {
+    Dimension large = LENGTH.pow(100).multiply(LENGTH.pow(100));
+    assertEquals(LENGTH.pow(200), large);
+    assertEquals(LENGTH, large.divide(LENGTH.pow(199)));
+  }
+}
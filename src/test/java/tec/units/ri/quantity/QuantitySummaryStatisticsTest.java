@@ -0,0 +1,134 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.quantity;
+
+import static org.junit.Assert.*;
+import static tec.units.ri.unit.Units.*;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Mass;
+import javax.measure.quantity.Temperature;
+
+import org.junit.Test;
+
+import tec.units.ri.function.LogConverter;
+
+public class QuantitySummaryStatisticsTest {
+
+  @Test
+  public void testStatistics() {
+    QuantitySummaryStatistics<Mass> stats = new QuantitySummaryStatistics<Mass>(KILOGRAM);
+    stats.accept(Quantities.getQuantity(2000, GRAM));
+    stats.accept(Quantities.getQuantity(4d, KILOGRAM));
+    stats.accept(4);
+    stats.accept(Quantities.getQuantity(4000L, GRAM));
+    stats.accept(5);
+    stats.accept(5);
+    stats.accept(Quantities.getQuantity(7f, KILOGRAM));
+    stats.accept(9);
+    assertEquals(8, stats.getCount());
+    assertEquals(KILOGRAM, stats.getSum().getUnit());
+    assertEquals(40, stats.getSum().getValue().doubleValue(), 1e-12);
+    assertEquals(2, stats.getMin().getValue().doubleValue(), 0);
+    assertEquals(9, stats.getMax().getValue().doubleValue(), 0);
+    assertEquals(5, stats.getMean().getValue().doubleValue(), 1e-12);
+    assertEquals(4, stats.getVariance().getValue().doubleValue(), 1e-12);
+    assertEquals(KILOGRAM.pow(2), stats.getVariance().getUnit());
+    assertEquals(2, stats.getStandardDeviation().getValue().doubleValue(), 1e-12);
+    assertEquals(Math.sqrt(32d / 7), stats.getSampleStandardDeviation().getValue().doubleValue(), 1e-12);
+  }
+
+  @Test
+  public void testEmpty() {
+    QuantitySummaryStatistics<Mass> stats = new QuantitySummaryStatistics<Mass>(KILOGRAM);
+    assertEquals(0, stats.getCount());
+    assertEquals(0, stats.getSum().getValue().doubleValue(), 0);
+    assertTrue(Double.isNaN(stats.getMean().getValue().doubleValue()));
+    assertTrue(Double.isNaN(stats.getStandardDeviation().getValue().doubleValue()));
+    assertEquals(Double.POSITIVE_INFINITY, stats.getMin().getValue().doubleValue(), 0);
+  }
+
+  @Test
+  public void testCombine() {
+    double[] values = { 1.5, 2.25, 3, 10, 11.5, 0.25, 7, 8.125 };
+    QuantitySummaryStatistics<Mass> all = new QuantitySummaryStatistics<Mass>(KILOGRAM);
+    QuantitySummaryStatistics<Mass> left = new QuantitySummaryStatistics<Mass>(KILOGRAM);
+    QuantitySummaryStatistics<Mass> right = new QuantitySummaryStatistics<Mass>(GRAM);
+    for (int i = 0; i < values.length; i++) {
+      all.accept(values[i]);
+      if (i < 3)
+        left.accept(values[i]);
+      else
+        right.accept(values[i] * 1000);
+    }
+    left.combine(right);
+    left.combine(new QuantitySummaryStatistics<Mass>(GRAM));
+    assertEquals(all.getCount(), left.getCount());
+    assertEquals(all.getSum().getValue().doubleValue(), left.getSum().getValue().doubleValue(), 1e-12);
+    assertEquals(all.getMin().getValue().doubleValue(), left.getMin().getValue().doubleValue(), 1e-12);
+    assertEquals(all.getMax().getValue().doubleValue(), left.getMax().getValue().doubleValue(), 1e-12);
+    assertEquals(all.getMean().getValue().doubleValue(), left.getMean().getValue().doubleValue(), 1e-12);
+    assertEquals(all.getVariance().getValue().doubleValue(), left.getVariance().getValue().doubleValue(), 1e-9);
+  }
+
+  @Test
+  public void testCombineAffine() {
+    QuantitySummaryStatistics<Temperature> kelvin = new QuantitySummaryStatistics<Temperature>(KELVIN);
+    kelvin.accept(273.15);
+    kelvin.accept(Quantities.getQuantity(10, CELSIUS));
+    QuantitySummaryStatistics<Temperature> celsius = new QuantitySummaryStatistics<Temperature>(CELSIUS);
+    celsius.accept(20);
+    celsius.accept(30);
+    kelvin.combine(celsius);
+    assertEquals(4, kelvin.getCount());
+    assertEquals(273.15 + 15, kelvin.getMean().getValue().doubleValue(), 1e-9);
+    assertEquals(273.15, kelvin.getMin().getValue().doubleValue(), 1e-9);
+    assertEquals(303.15, kelvin.getMax().getValue().doubleValue(), 1e-9);
+    assertEquals(125, kelvin.getVariance().getValue().doubleValue(), 1e-9);
+  }
+
+  @Test
+  public void testCombineNonLinear() {
+    Unit<Temperature> logKelvin = KELVIN.transform(new LogConverter(10));
+    QuantitySummaryStatistics<Temperature> kelvin = new QuantitySummaryStatistics<Temperature>(KELVIN);
+    kelvin.accept(100);
+    QuantitySummaryStatistics<Temperature> log = new QuantitySummaryStatistics<Temperature>(logKelvin);
+    log.accept(1);
+    log.accept(3);
+    try {
+      kelvin.combine(log);
+      fail("Logarithmic statistics combined");
+    } catch (UnsupportedOperationException e) {
+      assertEquals(1, kelvin.getCount());
+      assertEquals(100, kelvin.getMean().getValue().doubleValue(), 0);
+      assertEquals(100, kelvin.getMax().getValue().doubleValue(), 0);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.spi;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import tec.units.ri.function.AddConverter;
+import tec.units.ri.function.AffineConverter;
+import tec.units.ri.function.LogConverter;
+import tec.units.ri.function.RationalConverter;
+import tec.units.ri.internal.BulkConversion;
+
+public class BulkConversionProviderTest {
+
+  private final TestBulkConversionProvider provider = new TestBulkConversionProvider();
+
+  private BulkConversionProvider previous;
+
+  @Before
+  public void setUp() {
+    previous = BulkConversion.setProvider(provider);
+  }
+
+  @After
+  public void tearDown() {
+    BulkConversion.setProvider(previous);
+  }
+
+  @Test
+  public void testProviderInstalled() {
+    assertSame(provider, BulkConversion.getProvider());
+  }
+
+  @Test
+  public void testAffineUsesProvider() {
+    double[] values = { 0, 100, -40 };
+    new AffineConverter(1.8, 32).convert(values);
+    assertArrayEquals(new double[] { 32, 212, -40 }, values, 1e-12);
+    float[] floats = { 1, 2 };
+    new AddConverter(0.5).convert(floats);
+    assertArrayEquals(new float[] { 1.5f, 2.5f }, floats, 0);
+    RationalConverter.of(1, 4).convert(values);
+    assertEquals(3, provider.calls.get());
+  }
+
+  @Test
+  public void testNonLinearUsesScalarLoop() {
+    double[] values = { 10, 100 };
+    new LogConverter(10).convert(values);
+    assertArrayEquals(new double[] { 1, 2 }, values, 1e-12);
+    assertEquals(0, provider.calls.get());
+  }
+}
@@ -30,12 +30,17 @@
 package tec.units.ri.spi;
 
 import static org.junit.Assert.*;
+import static tec.units.ri.unit.Units.*;
+
+import java.util.concurrent.CountDownLatch;
 
 import javax.measure.Dimension;
 import javax.measure.UnitConverter;
 
 import org.junit.Test;
 
+import tec.units.ri.ConverterCache;
+import tec.units.ri.function.MultiplyConverter;
 import tec.units.ri.quantity.QuantityDimension;
 
 public class ModelTest {
@@ -70,4 +75,187 @@ public class ModelTest {
     Dimension fund = model.getFundamentalDimension(dim);
     assertNotNull(fund);
   }
+
+  @Test
+  public void testFundamentalDimensionOfProduct() {
+    DimensionalModel model = new TestModel();
+    Dimension energy = QuantityDimension.MASS.multiply(QuantityDimension.LENGTH.pow(2)).divide(QuantityDimension.TIME.pow(2));
+    assertEquals(energy, model.getFundamentalDimension(energy));
+    assertSame(model.getFundamentalDimension(energy), model.getFundamentalDimension(energy));
+  }
+
+  @Test
+  public void testTransformOfPower() {
+    DimensionalModel model = new DimensionalModel() {
+      @Override
+      public UnitConverter getDimensionalTransform(Dimension dimension) {
+        if (dimension.equals(QuantityDimension.LENGTH))
+          return new MultiplyConverter(2);
+        return super.getDimensionalTransform(dimension);
+      }
+    };
+    assertEquals(2048, model.getDimensionalTransform(QuantityDimension.LENGTH.pow(11)).convert(1), 0);
+    assertEquals(1.0 / 32, model.getDimensionalTransform(QuantityDimension.LENGTH.pow(-5)).convert(1), 0);
+  }
+
+  @Test
+  public void testTransformsAreCachedPerModel() {
+    Dimension speed = QuantityDimension.LENGTH.divide(QuantityDimension.TIME);
+    CountingModel model = new CountingModel();
+    CountingModel other = new CountingModel();
+    UnitConverter transform = model.getDimensionalTransform(speed);
+    other.getDimensionalTransform(speed);
+    assertEquals(2, model.calls);
+    assertSame(transform, model.getDimensionalTransform(speed));
+    assertEquals(2, model.calls);
+
+    DimensionalModel previous = DimensionalModel.current();
+    try {
+      DimensionalModel.setCurrent(model);
+      model.getDimensionalTransform(speed);
+      other.getDimensionalTransform(speed);
+      assertEquals(4, model.calls);
+      assertEquals(2, other.calls);
+    } finally {
+      DimensionalModel.setCurrent(previous);
+    }
+  }
+
+  @Test
+  public void testScopeIsThreadConfined() throws Exception {
+    final DimensionalModel shared = DimensionalModel.current();
+    DimensionalModel scoped = new TestModel();
+    try (DimensionalModel.Scope scope = DimensionalModel.enter(scoped)) {
+      assertSame(scoped, DimensionalModel.current());
+      final DimensionalModel[] seen = new DimensionalModel[1];
+      Thread thread = new Thread() {
+        @Override
+        public void run() {
+          seen[0] = DimensionalModel.current();
+        }
+      };
+      thread.start();
+      thread.join();
+      assertSame(shared, seen[0]);
+    }
+    assertSame(shared, DimensionalModel.current());
+  }
+
+  @Test
+  public void testNestedScopes() {
+    DimensionalModel shared = DimensionalModel.current();
+    DimensionalModel outer = new TestModel();
+    DimensionalModel inner = new TestModel();
+    try (DimensionalModel.Scope outerScope = DimensionalModel.enter(outer)) {
+      DimensionalModel.Scope innerScope = DimensionalModel.enter(inner);
+      assertSame(inner, DimensionalModel.current());
+      innerScope.close();
+      innerScope.close();
+      assertSame(outer, DimensionalModel.current());
+    }
+    assertSame(shared, DimensionalModel.current());
+  }
+
+  @Test
+  public void testScopesClosedOutOfOrder() {
+    DimensionalModel outer = new TestModel();
+    DimensionalModel inner = new TestModel();
+    try (DimensionalModel.Scope outerScope = DimensionalModel.enter(outer)) {
+      try (DimensionalModel.Scope innerScope = DimensionalModel.enter(inner)) {
+        try {
+          outerScope.close();
+          fail("Outer scope closed before inner scope");
+        } catch (IllegalStateException e) {
+          assertSame(inner, DimensionalModel.current());
+        }
+      }
+      assertSame(outer, DimensionalModel.current());
+    }
+  }
+
+  @Test
+  public void testOtherThreadsIgnoreScopes() throws Exception {
+    final DimensionalModel shared = DimensionalModel.current();
+    final DimensionalModel[] seen = new DimensionalModel[2];
+    final CountDownLatch entered = new CountDownLatch(1);
+    final CountDownLatch checked = new CountDownLatch(1);
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        try (DimensionalModel.Scope scope = DimensionalModel.enter(new TestModel())) {
+          seen[0] = DimensionalModel.current();
+          entered.countDown();
+          checked.await();
+        } catch (InterruptedException e) {
+          // Exits.
+        }
+      }
+    };
+    thread.start();
+    entered.await();
+    seen[1] = DimensionalModel.current(); // While the other thread is in its scope.
+    checked.countDown();
+    thread.join();
+    assertNotSame(shared, seen[0]);
+    assertSame(shared, seen[1]);
+    assertSame(shared, DimensionalModel.current());
+  }
+
+  @Test
+  public void testSetCurrentRemovesCachedConvertersOfPrevious() {
+    DimensionalModel previous = DimensionalModel.current();
+    DimensionalModel model = new TestModel();
+    ConverterCache.getInstance().put(METRE, SECOND, previous, new MultiplyConverter(5));
+    try {
+      DimensionalModel.setCurrent(model);
+      assertNull(ConverterCache.getInstance().get(METRE, SECOND, previous));
+    } finally {
+      DimensionalModel.setCurrent(previous);
+    }
+  }
+
+  @Test
+  public void testInvalidateRemovesCachedConverters() throws Exception {
+    MappingModel model = new MappingModel();
+    try (DimensionalModel.Scope scope = DimensionalModel.enter(model)) {
+      assertEquals(2, METRE.getConverterToAny(SECOND).convert(1), 0);
+      assertEquals(2, METRE.getConverterToAny(SECOND).convert(1), 0);
+      model.setFactor(3);
+      assertEquals(3, METRE.getConverterToAny(SECOND).convert(1), 0);
+    }
+  }
+
+  private static final class MappingModel extends DimensionalModel {
+    private double factor = 2;
+
+    void setFactor(double factor) {
+      this.factor = factor;
+      invalidate();
+    }
+
+    @Override
+    public Dimension getFundamentalDimension(Dimension dimension) {
+      if (dimension.equals(QuantityDimension.LENGTH))
+        return QuantityDimension.TIME;
+      return super.getFundamentalDimension(dimension);
+    }
+
+    @Override
+    public UnitConverter getDimensionalTransform(Dimension dimension) {
+      if (dimension.equals(QuantityDimension.LENGTH))
+        return new MultiplyConverter(factor);
+      return super.getDimensionalTransform(dimension);
+    }
+  }
+
+  private static final class CountingModel extends DimensionalModel {
+    private int calls;
+
+    @Override
+    public UnitConverter getDimensionalTransform(Dimension dimension) {
+      if (dimension.getBaseDimensions() == null)
+        calls++;
+      return super.getDimensionalTransform(dimension);
+    }
+  }
 }
@@ -30,12 +30,18 @@
 package tec.units.ri.unit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static tec.units.ri.unit.MetricPrefix.*;
+import static tec.units.ri.unit.Units.CELSIUS;
 import static tec.units.ri.unit.Units.GRAM;
 import static tec.units.ri.unit.Units.KILOGRAM;
 import static tec.units.ri.unit.Units.LITRE;
 import static tec.units.ri.unit.Units.METRE;
 
+import java.util.HashSet;
+
 import javax.measure.Quantity;
 import javax.measure.Unit;
 import javax.measure.UnitConverter;
@@ -44,6 +50,8 @@ import javax.measure.quantity.Volume;
 
 import org.junit.Test;
 
+import tec.units.ri.AbstractSystemOfUnits;
+import tec.units.ri.format.UnitStyle;
 import tec.units.ri.function.RationalConverter;
 import tec.units.ri.quantity.Quantities;
 
@@ -111,7 +119,7 @@ public class PrefixTest {
   @Test
   public void testBetweenPrefixes() {
     UnitConverter conv = YOTTA(METRE).getConverterTo(ZETTA(METRE));
-    assertEquals(new RationalConverter(4.7683715820312499E17, 4.76837158203125E14), conv); // TODO value?
+    assertEquals(RationalConverter.of(1000, 1), conv);
   }
 
   @Test
@@ -119,4 +127,42 @@ public class PrefixTest {
     UnitConverter conv = KILO(METRE).getConverterTo(GIGA(METRE));
     assertEquals(RationalConverter.of(1d, 1000000d), conv);
   }
+
+  @Test
+  public void testBetweenSmallPrefixes() {
+    UnitConverter conv = YOCTO(METRE).getConverterTo(ATTO(METRE));
+    assertEquals(RationalConverter.of(1, 1000000), conv);
+  }
+
+  @Test
+  public void testPrefixedUnitIsShared() {
+    assertSame(KILO(METRE), KILO(METRE));
+    assertSame(MILLI(CELSIUS), MetricPrefix.MILLI.prefix(CELSIUS));
+    assertNotSame(KILO(METRE), MEGA(METRE));
+    assertEquals("km", KILO(METRE).toString());
+  }
+
+  @Test
+  public void testNamingDoesNotAffectSharedPrefixedUnit() {
+    Unit<?> shared = HECTO(METRE);
+    Unit<?> named = TestSystem.name(HECTO(METRE));
+    assertEquals("Test", named.getName());
+    assertEquals("tst", named.getSymbol());
+    assertNull(shared.getName());
+    assertNull(shared.getSymbol());
+    assertSame(shared, HECTO(METRE));
+    assertEquals(shared, named);
+  }
+
+  private static final class TestSystem extends AbstractSystemOfUnits {
+
+    static Unit<?> name(Unit<?> unit) {
+      return Helper.addUnit(new HashSet<Unit<?>>(), unit, "Test", "tst", UnitStyle.SYMBOL);
+    }
+
+    @Override
+    public String getName() {
+      return "Test";
+    }
+  }
 }
@@ -0,0 +1,153 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.unit;
+
+import static org.junit.Assert.*;
+import static tec.units.ri.unit.MetricPrefix.*;
+import static tec.units.ri.unit.Units.*;
+
+import java.util.HashSet;
+
+import javax.measure.Unit;
+
+import org.junit.Test;
+
+import tec.units.ri.AbstractSystemOfUnits;
+import tec.units.ri.AbstractUnit;
+
+public class ProductUnitTest {
+
+  @Test
+  public void testCanonicalInstances() {
+    Unit<?> speed = METRE.divide(SECOND);
+    assertSame(speed, METRE.divide(SECOND));
+    assertSame(METRE.multiply(KILOGRAM), METRE.multiply(KILOGRAM));
+    assertSame(METRE.pow(3), METRE.pow(3));
+    assertSame(METRE, METRE.pow(2).divide(METRE));
+  }
+
+  @Test
+  public void testCanonicalOrder() {
+    assertSame(METRE.multiply(SECOND), SECOND.multiply(METRE));
+    ProductUnit<?> unit = (ProductUnit<?>) METRE.divide(SECOND).multiply(KILOGRAM).divide(METRE.pow(2));
+    assertEquals(KILOGRAM.divide(METRE).divide(SECOND), unit);
+    assertEquals(3, unit.getUnitCount());
+    assertEquals(KILOGRAM, unit.getUnit(0)); // Sorted by system unit symbol, independently of first use.
+    assertEquals(METRE, unit.getUnit(1));
+    assertEquals(SECOND, unit.getUnit(2));
+    ProductUnit<?> mixed = (ProductUnit<?>) KILOMETRE_PER_HOUR.multiply(METRE).multiply(GRAM);
+    assertEquals(mixed, GRAM.multiply(METRE).multiply(KILOMETRE_PER_HOUR));
+  }
+
+  @Test
+  public void testDeterministicOrderOfSameSystemUnit() {
+    ProductUnit<?> unit = (ProductUnit<?>) METRE.multiply(KILO(METRE));
+    assertSame(unit, KILO(METRE).multiply(METRE));
+    assertEquals(KILO(METRE), unit.getUnit(0)); // Same system unit, ordered by label.
+    assertEquals(METRE, unit.getUnit(1));
+    assertEquals("km·m", unit.toString());
+    assertEquals(GRAM, ((ProductUnit<?>) KILOGRAM.multiply(GRAM)).getUnit(0));
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testPowOverflow() {
+    METRE.pow(1 << 20).pow(1 << 12);
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testRootOverflow() {
+    METRE.root(1 << 20).root(1 << 12);
+  }
+
+  @Test
+  public void testMergeWithRoots() {
+    Unit<?> unit = METRE.pow(3).root(2).multiply(METRE.root(2));
+    assertSame(METRE.pow(2), unit);
+  }
+
+  @Test
+  public void testDerivedPropertiesAreMemoized() {
+    AbstractUnit<?> unit = (AbstractUnit<?>) KILOMETRE_PER_HOUR.multiply(KILOGRAM);
+    assertSame(unit.getSystemUnit(), unit.getSystemUnit());
+    assertSame(unit.getSystemConverter(), unit.getSystemConverter());
+    assertSame(unit.getDimension(), unit.getDimension());
+    AbstractUnit<?> transformed = (AbstractUnit<?>) unit.multiply(1000);
+    assertSame(transformed.getSystemConverter(), transformed.getSystemConverter());
+    assertEquals(METRE.multiply(KILOGRAM).divide(SECOND), unit.getSystemUnit());
+  }
+
+  @Test
+  public void testPowAndRoot() {
+    assertSame(AbstractUnit.ONE, METRE.pow(0));
+    assertEquals(AbstractUnit.ONE.divide(METRE.pow(2)), METRE.pow(-2));
+    assertEquals(METRE.pow(6), METRE.pow(2).pow(3));
+    assertEquals(METRE, METRE.root(-2).pow(-2));
+    assertEquals(AbstractUnit.ONE.divide(METRE.root(2)), METRE.root(-2));
+    assertEquals(METRE.multiply(METRE).multiply(METRE).divide(SECOND.pow(3)), METRE.divide(SECOND).pow(3));
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testRootOfZero() {
+    METRE.root(0);
+  }
+
+  @Test
+  public void testNamedInstanceIsNotShared() {
+    Unit<?> named = TestSystem.name(MOLE.divide(CANDELA));
+    Unit<?> other = MOLE.divide(CANDELA);
+    assertNotSame(named, other);
+    assertEquals(named, other);
+    assertNull(((AbstractUnit<?>) other).getName());
+  }
+
+  @Test
+  public void testNamingDoesNotAffectSharedInstance() {
+    Unit<?> shared = AMPERE.divide(CANDELA);
+    Unit<?> named = TestSystem.name(AMPERE.divide(CANDELA));
+    assertEquals("Test", named.getName());
+    assertEquals("tst", named.getSymbol());
+    assertNull(shared.getName());
+    assertNull(shared.getSymbol());
+    assertSame(shared, AMPERE.divide(CANDELA));
+    assertEquals(shared, named);
+  }
+
+  private static final class TestSystem extends AbstractSystemOfUnits {
+
+    static Unit<?> name(Unit<?> unit) {
+      return Helper.addUnit(new HashSet<Unit<?>>(), unit, "Test", "tst");
+    }
+
+    @Override
+    public String getName() {
+      return "Test";
+    }
+  }
+}
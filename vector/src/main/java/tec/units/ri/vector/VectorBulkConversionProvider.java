@@ -0,0 +1,107 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+import tec.units.ri.spi.BulkConversionProvider;
+
+/**
+ * <p>
+ * A {@link BulkConversionProvider} computing <code>x * factor + offset</code> with the <code>jdk.incubator.vector</code> API, using the preferred
+ * vector shape of the platform (e.g. 4 doubles with AVX2, 8 with AVX-512).
+ * </p>
+ *
+ * <p>
+ * Each lane performs the same double precision multiply and add as the scalar loops of the converters (no fused multiply-add), so results are
+ * identical; <code>float</code> values are widened to <code>double</code> and narrowed back. The application must be started with
+ * <code>--add-modules jdk.incubator.vector</code>; otherwise this provider fails to load and the converters keep their scalar loops.
+ * </p>
+ *
+ * @author <a href="mailto:units@catmedia.us">Werner Keil</a>
+ * @version 1.0, October 17, 2026
+ * @since 1.0.4
+ */
+public final class VectorBulkConversionProvider implements BulkConversionProvider {
+
+  private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+  /**
+   * Holds the float species with as many lanes as {@link #DOUBLES}.
+   */
+  private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED.withShape(VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2));
+
+  @Override
+  public int getPriority() {
+    return 100;
+  }
+
+  @Override
+  public void convert(double factor, double offset, double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    int i = 0;
+    for (int bound = DOUBLES.loopBound(len); i < bound; i += DOUBLES.length()) {
+      DoubleVector v = DoubleVector.fromArray(DOUBLES, src, srcOff + i);
+      apply(v, factor, offset).intoArray(dst, dstOff + i);
+    }
+    for (; i < len; i++) {
+      dst[dstOff + i] = apply(src[srcOff + i], factor, offset);
+    }
+  }
+
+  @Override
+  public void convert(double factor, double offset, float[] src, int srcOff, float[] dst, int dstOff, int len) {
+    int i = 0;
+    for (int bound = FLOATS.loopBound(len); i < bound; i += FLOATS.length()) {
+      DoubleVector v = (DoubleVector) FloatVector.fromArray(FLOATS, src, srcOff + i).convertShape(VectorOperators.F2D, DOUBLES, 0);
+      ((FloatVector) apply(v, factor, offset).convertShape(VectorOperators.D2F, FLOATS, 0)).intoArray(dst, dstOff + i);
+    }
+    for (; i < len; i++) {
+      dst[dstOff + i] = (float) apply(src[srcOff + i], factor, offset);
+    }
+  }
+
+  /**
+   * Matches the scalar loops: multiplications by one and additions of zero are skipped (e.g. <code>-0.0 + 0.0</code> would be <code>+0.0</code>).
+   */
+  private static DoubleVector apply(DoubleVector v, double factor, double offset) {
+    if (factor != 1.0)
+      v = v.mul(factor);
+    return (offset != 0.0) ? v.add(offset) : v;
+  }
+
+  private static double apply(double x, double factor, double offset) {
+    if (factor != 1.0)
+      x *= factor;
+    return (offset != 0.0) ? x + offset : x;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2017, Jean-Marie Dautelle, Werner Keil, V2COM.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-363 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tec.units.ri.vector;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import tec.units.ri.function.AffineConverter;
+import tec.units.ri.function.RationalConverter;
+import tec.units.ri.internal.BulkConversion;
+import tec.units.ri.spi.BulkConversionProvider;
+
+public class VectorBulkConversionProviderTest {
+
+  private final VectorBulkConversionProvider provider = new VectorBulkConversionProvider();
+
+  @Test
+  public void testProviderLoaded() {
+    assertTrue(BulkConversion.getProvider() instanceof VectorBulkConversionProvider);
+  }
+
+  @Test
+  public void testDoubleMatchesScalar() {
+    Random random = new Random(42);
+    for (int len = 0; len < 70; len++) {
+      double[] src = new double[len + 3];
+      for (int i = 0; i < src.length; i++) {
+        src[i] = random.nextGaussian() * 1e3;
+      }
+      double[] dst = new double[len + 5];
+      provider.convert(1.8, 32, src, 3, dst, 5, len);
+      for (int i = 0; i < len; i++) {
+        assertEquals(src[3 + i] * 1.8 + 32, dst[5 + i], 0);
+      }
+    }
+  }
+
+  @Test
+  public void testFloatMatchesScalar() {
+    Random random = new Random(42);
+    for (int len = 0; len < 70; len++) {
+      float[] values = new float[len];
+      float[] expected = new float[len];
+      for (int i = 0; i < len; i++) {
+        values[i] = (float) random.nextGaussian();
+        expected[i] = (float) (values[i] * 0.001 + 273.15);
+      }
+      provider.convert(0.001, 273.15, values, 0, values, 0, len);
+      assertArrayEquals(expected, values, 0);
+    }
+  }
+
+  @Test
+  public void testConvertersUseProvider() {
+    double[] values = new double[1000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i - 500;
+    }
+    double[] vectorized = values.clone();
+    double[] scalar = values.clone();
+    new AffineConverter(1.8, 32).convert(vectorized);
+    RationalConverter.of(1, 1000).convert(vectorized);
+    BulkConversionProvider previous = BulkConversion.setProvider(null);
+    try {
+      new AffineConverter(1.8, 32).convert(scalar);
+      RationalConverter.of(1, 1000).convert(scalar);
+    } finally {
+      BulkConversion.setProvider(previous);
+    }
+    assertArrayEquals(scalar, vectorized, 0);
+  }
+}